@@ -0,0 +1,195 @@
+package berlin.yuna.typemap.config;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of canonical instances of an immutable type, e.g. {@link String}, {@link Long} or {@link java.util.UUID}.
+ * Equal values are replaced by one shared instance, so long-lived maps holding many repetitions of few values
+ * keep only one copy of each.
+ * <p>
+ * The cache is set associative: a value is stored in one of {@value #WAYS} slots chosen by its hash, and a full
+ * set evicts with the clock algorithm, values used since the last sweep get a second chance. Lookups take no lock;
+ * concurrent writers may overwrite each other's entries, which only costs a later miss. Strings longer than
+ * {@value #MAX_STRING_LENGTH} characters are passed through without caching.
+ * </p>
+ *
+ * @param <T> the type of the cached values, must be immutable.
+ */
+public final class CanonicalCache<T> {
+
+    /**
+     * Number of slots per set.
+     */
+    public static final int WAYS = 8;
+    /**
+     * Maximum length of cached strings.
+     */
+    public static final int MAX_STRING_LENGTH = 64;
+
+    private final Class<T> type;
+    private final int mask;
+    private final Object[] values;
+    private final int[] hashes;
+    private final boolean[] referenced;
+    private final byte[] hands;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache for the given type.
+     *
+     * @param type     the type of the cached values.
+     * @param capacity the maximum number of cached values, rounded up to a power of two of at least {@value #WAYS}.
+     */
+    public CanonicalCache(final Class<T> type, final int capacity) {
+        final int wanted = (Math.max(capacity, 1) + WAYS - 1) / WAYS;
+        final int sets = wanted <= 1 ? 1 : Integer.highestOneBit(wanted - 1) << 1;
+        this.type = type;
+        this.mask = sets - 1;
+        this.values = new Object[sets * WAYS];
+        this.hashes = new int[sets * WAYS];
+        this.referenced = new boolean[sets * WAYS];
+        this.hands = new byte[sets];
+    }
+
+    /**
+     * Returns the type of the cached values.
+     *
+     * @return the type.
+     */
+    public Class<T> type() {
+        return type;
+    }
+
+    /**
+     * Returns the maximum number of cached values.
+     *
+     * @return the capacity.
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Returns the cached instance equal to the given value, or caches and returns the value itself.
+     *
+     * @param value the value to canonicalize, {@code null} is returned as is.
+     * @return the canonical instance.
+     */
+    @SuppressWarnings("unchecked")
+    public T canonical(final T value) {
+        if (value == null || (value instanceof final String string && string.length() > MAX_STRING_LENGTH)) {
+            return value;
+        }
+        final int hash = value.hashCode();
+        final int set = (spread(hash) & mask) * WAYS;
+        for (int i = set; i < set + WAYS; i++) {
+            final Object candidate = values[i];
+            if (hashes[i] == hash && value.equals(candidate)) {
+                referenced[i] = true;
+                hits.increment();
+                return (T) candidate;
+            }
+        }
+        return store(set, hash, value);
+    }
+
+    /**
+     * Returns the cached string with the same characters, or creates, caches and returns a new string.
+     * On a hit no string is created. Only caches of {@link String} store the result.
+     *
+     * @param chars the characters of the string.
+     * @return the canonical string.
+     */
+    public String canonical(final CharSequence chars) {
+        if (type != String.class || chars.length() > MAX_STRING_LENGTH) {
+            return chars.toString();
+        }
+        int hash = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+        final int set = (spread(hash) & mask) * WAYS;
+        for (int i = set; i < set + WAYS; i++) {
+            if (hashes[i] == hash && values[i] instanceof final String candidate && candidate.contentEquals(chars)) {
+                referenced[i] = true;
+                hits.increment();
+                return candidate;
+            }
+        }
+        return store(set, hash, chars.toString());
+    }
+
+    /**
+     * Returns the number of lookups answered by a cached instance.
+     *
+     * @return the hit count.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups which stored a new instance.
+     *
+     * @return the miss count.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of currently cached values.
+     *
+     * @return the size, at most {@link #capacity()}.
+     */
+    public int size() {
+        int result = 0;
+        for (final Object value : values) {
+            result += value == null ? 0 : 1;
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached values and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        Arrays.fill(hashes, 0);
+        Arrays.fill(referenced, false);
+        hits.reset();
+        misses.reset();
+    }
+
+    private <V> V store(final int set, final int hash, final V value) {
+        misses.increment();
+        final int slot = victim(set);
+        hashes[slot] = hash;
+        referenced[slot] = false;
+        values[slot] = value;
+        return value;
+    }
+
+    private int victim(final int set) {
+        final int index = set / WAYS;
+        int hand = hands[index];
+        // clock: clear and skip referenced slots, the second round finds a cleared one unless readers set it again
+        for (int i = 0; i < WAYS * 2; i++) {
+            final int slot = set + hand;
+            hand = (hand + 1) % WAYS;
+            if (values[slot] == null || !referenced[slot]) {
+                hands[index] = (byte) hand;
+                return slot;
+            }
+            referenced[slot] = false;
+        }
+        hands[index] = (byte) ((hand + 1) % WAYS);
+        return set + hand;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
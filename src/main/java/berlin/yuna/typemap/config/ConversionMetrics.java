@@ -0,0 +1,139 @@
+package berlin.yuna.typemap.config;
+
+import berlin.yuna.typemap.logic.TypeConverter;
+import berlin.yuna.typemap.model.FunctionOrNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects call counts, failures and timings of conversions per (source, target) pair.
+ * <p>
+ * Metrics are attached to a registry snapshot via {@link ConversionRegistry#withMetrics(ConversionMetrics)}, which
+ * wraps the conversion plans of that snapshot only. Registries without metrics run their plans unwrapped, so
+ * there is no overhead at all while metrics are disabled. Counted are all conversions resolved via
+ * {@link ConversionRegistry#conversionPlanOf(Class, Class)}, e.g. by {@link TypeConverter#convertObj(Object, Class)};
+ * values which are already an instance of the target type are returned without a plan and not counted.
+ * </p>
+ * <pre>{@code
+ * final ConversionMetrics metrics = new ConversionMetrics();
+ * TypeConversionRegister.conversionRegistry(TypeConversionRegister.conversionRegistry().withMetrics(metrics));
+ * metrics.snapshot().forEach(System.out::println);
+ * }</pre>
+ */
+public final class ConversionMetrics {
+
+    // source type -> target type -> counter
+    private final Map<Class<?>, Map<Class<?>, Counter>> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics of a single (source, target) pair.
+     *
+     * @param source     the source type.
+     * @param target     the target type.
+     * @param calls      the number of conversions.
+     * @param nulls      the number of conversions which returned {@code null}, including exceptions.
+     * @param exceptions the number of exceptions thrown and swallowed by the conversion.
+     * @param fallbacks  the number of conversions done via the {@link String} fallback.
+     * @param nanos      the cumulative time spent in the conversion.
+     */
+    public record Stats(Class<?> source, Class<?> target, long calls, long nulls, long exceptions, long fallbacks, long nanos) {
+    }
+
+    /**
+     * Returns the statistics of all pairs converted since creation or the last {@link #reset()},
+     * sorted by cumulative time, the most expensive pair first.
+     *
+     * @return an immutable list of the statistics.
+     */
+    public List<Stats> snapshot() {
+        final List<Stats> result = new ArrayList<>();
+        counters.forEach((source, targets) -> targets.forEach((target, counter) -> {
+            if (counter.calls.sum() > 0) {
+                result.add(counter.stats(source, target));
+            }
+        }));
+        result.sort(Comparator.comparingLong(Stats::nanos).reversed());
+        return List.copyOf(result);
+    }
+
+    /**
+     * Returns the statistics of the given pair.
+     *
+     * @param source the source type.
+     * @param target the target type.
+     * @return the statistics, all zero if the pair was not converted.
+     */
+    public Stats statsOf(final Class<?> source, final Class<?> target) {
+        final Counter counter = counters.getOrDefault(source, Map.of()).get(target);
+        return counter == null ? new Stats(source, target, 0, 0, 0, 0, 0) : counter.stats(source, target);
+    }
+
+    /**
+     * Resets all statistics to zero. Plans resolved earlier keep recording.
+     */
+    public void reset() {
+        counters.values().forEach(targets -> targets.values().forEach(Counter::reset));
+    }
+
+    @SuppressWarnings("rawtypes")
+    FunctionOrNull meter(final Class<?> source, final Class<?> target, final FunctionOrNull plan, final boolean fallback) {
+        return new MeteredPlan(plan, counters.computeIfAbsent(source, type -> new ConcurrentHashMap<>()).computeIfAbsent(target, type -> new Counter()), fallback);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private record MeteredPlan(FunctionOrNull plan, Counter counter, boolean fallback) implements FunctionOrNull {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object applyWithException(final Object source) throws Exception {
+            final long start = System.nanoTime();
+            try {
+                final Object result = plan.applyWithException(source);
+                counter.record(start, result == null, false, fallback);
+                return result;
+            } catch (final Exception e) {
+                counter.record(start, true, true, fallback);
+                throw e;
+            }
+        }
+    }
+
+    private static final class Counter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nulls = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        void record(final long start, final boolean isNull, final boolean failed, final boolean fallback) {
+            nanos.add(System.nanoTime() - start);
+            calls.increment();
+            if (isNull) {
+                nulls.increment();
+            }
+            if (failed) {
+                exceptions.increment();
+            }
+            if (fallback) {
+                fallbacks.increment();
+            }
+        }
+
+        Stats stats(final Class<?> source, final Class<?> target) {
+            return new Stats(source, target, calls.sum(), nulls.sum(), exceptions.sum(), fallbacks.sum(), nanos.sum());
+        }
+
+        void reset() {
+            calls.reset();
+            nulls.reset();
+            exceptions.reset();
+            fallbacks.reset();
+            nanos.reset();
+        }
+    }
+}
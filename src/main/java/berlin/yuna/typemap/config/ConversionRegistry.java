@@ -0,0 +1,441 @@
+package berlin.yuna.typemap.config;
+
+import berlin.yuna.typemap.logic.TemporalCodec;
+import berlin.yuna.typemap.logic.TypeConverter;
+import berlin.yuna.typemap.model.FunctionOrNull;
+import berlin.yuna.typemap.model.Pair;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Immutable snapshot of registered type conversions.
+ * <p>
+ * Registering a conversion via {@link #with(Class, Class, FunctionOrNull)} returns a new snapshot and leaves
+ * this one untouched, so snapshots can be shared between threads without locking and passed to
+ * {@link TypeConverter#convertObj(Object, Class, ConversionRegistry)} to use an isolated set of converters.
+ * The global snapshot is held by {@link TypeConversionRegister#conversionRegistry()}.
+ * </p>
+ * <p>
+ * Each snapshot carries the {@link Clock} and zone used by its {@link TemporalConversion}s, see
+ * {@link #withClock(Clock)}. By default, this is the system clock in the default zone resolved when the
+ * snapshot was created, see {@link TemporalCodec#refreshDefaultZone()}.
+ * </p>
+ * <p>
+ * Conversion metrics are recorded only by snapshots created via {@link #withMetrics(ConversionMetrics)}.
+ * </p>
+ * <p>
+ * Snapshots created via {@link #withCanonicalCache(Class, int)} return shared instances for equal conversion
+ * results of the given target type, see {@link CanonicalCache}.
+ * </p>
+ */
+@SuppressWarnings("rawtypes")
+public final class ConversionRegistry {
+
+    /**
+     * Maximum number of converters chained by {@link #conversionPathOf(Class, Class)}.
+     */
+    public static final int MAX_CONVERSION_HOPS = 4;
+
+    private static final FunctionOrNull NO_CONVERSION = source -> null;
+    private static final Comparator<Route> ROUTE_ORDER = Comparator.comparingInt(Route::cost)
+        .thenComparingInt(Route::hops)
+        .thenComparing(route -> route.type().getName());
+
+    /**
+     * Precomputed type hierarchy per class, see {@link #typeHierarchyOf(Class)}.
+     */
+    private static final ClassValue<Class<?>[]> TYPE_HIERARCHY = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(final Class<?> type) {
+            return hierarchyOf(type);
+        }
+    };
+
+    // target type -> source type -> conversion
+    private final Map<Class<?>, Map<Class<?>, FunctionOrNull>> conversions;
+    // target type -> source type -> cost of the lossless conversion as a chain hop
+    private final Map<Class<?>, Map<Class<?>, Integer>> chainCosts;
+    // hop targets of conversionPathOf, computed on the first path lookup as every registration derives a new snapshot
+    private volatile List<Class<?>> pathNodes;
+    private final Clock clock;
+    private final ConversionMetrics metrics;
+    private final Map<Class<?>, CanonicalCache<?>> canonicalCaches;
+    private final ClassValue<Map<Class<?>, FunctionOrNull>> conversionPlans = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, FunctionOrNull> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private final ClassValue<Map<Class<?>, Boolean>> convertible = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Boolean> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Returns a registry without any conversions, using the current {@link TemporalCodec#defaultClock()}.
+     *
+     * @return the empty registry.
+     */
+    public static ConversionRegistry empty() {
+        return new ConversionRegistry(Map.of(), Map.of(), TemporalCodec.defaultClock(), null, Map.of());
+    }
+
+    /**
+     * Returns a new registry containing all conversions of this registry plus the given one.
+     * An existing conversion for the same source and target type is replaced.
+     *
+     * @param <S>        The source type.
+     * @param <T>        The target type.
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @param conversion The function that will perform the conversion.
+     * @return the new registry.
+     */
+    public <S, T> ConversionRegistry with(final Class<S> sourceType, final Class<T> targetType, final FunctionOrNull<S, T> conversion) {
+        return with(sourceType, targetType, conversion, 0);
+    }
+
+    /**
+     * Returns a new registry containing all conversions of this registry plus the given lossless one.
+     * Lossless conversions keep all information of their input, so {@link #conversionPathOf(Class, Class)}
+     * may use them as hops of a chain. Conversions which truncate, round, drop fields or ignore their input
+     * must be registered via {@link #with(Class, Class, FunctionOrNull)} instead.
+     * An existing conversion for the same source and target type is replaced.
+     *
+     * @param <S>        The source type.
+     * @param <T>        The target type.
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @param conversion The function that will perform the conversion.
+     * @param cost       The relative cost of the conversion as a chain hop, {@code 0} or less to never chain it.
+     * @return the new registry.
+     */
+    public <S, T> ConversionRegistry with(final Class<S> sourceType, final Class<T> targetType, final FunctionOrNull<S, T> conversion, final int cost) {
+        final Map<Class<?>, Map<Class<?>, FunctionOrNull>> result = new HashMap<>(conversions);
+        final Map<Class<?>, FunctionOrNull> sources = new HashMap<>(conversions.getOrDefault(targetType, Map.of()));
+        sources.put(sourceType, conversion);
+        result.put(targetType, Collections.unmodifiableMap(sources));
+
+        final Map<Class<?>, Integer> costs = new HashMap<>(chainCosts.getOrDefault(targetType, Map.of()));
+        final Map<Class<?>, Map<Class<?>, Integer>> resultCosts = new HashMap<>(chainCosts);
+        if (cost > 0) {
+            costs.put(sourceType, cost);
+        } else {
+            costs.remove(sourceType);
+        }
+        if (costs.isEmpty()) {
+            resultCosts.remove(targetType);
+        } else {
+            resultCosts.put(targetType, Collections.unmodifiableMap(costs));
+        }
+        return new ConversionRegistry(Collections.unmodifiableMap(result), Collections.unmodifiableMap(resultCosts), clock, metrics, canonicalCaches);
+    }
+
+    /**
+     * Returns a new registry with the same conversions, whose {@link TemporalConversion}s use the given clock
+     * and its zone instead of the current time and the system default zone.
+     *
+     * @param clock The clock to use, {@code null} to use the system clock in the cached default zone, see {@link TemporalCodec#defaultClock()}.
+     * @return the new registry.
+     */
+    public ConversionRegistry withClock(final Clock clock) {
+        return new ConversionRegistry(conversions, chainCosts, clock == null ? TemporalCodec.defaultClock() : clock, metrics, canonicalCaches);
+    }
+
+    /**
+     * Returns a new registry with the same conversions, whose {@link TemporalConversion}s use the given zone.
+     *
+     * @param zone The zone to use.
+     * @return the new registry.
+     */
+    public ConversionRegistry withZone(final ZoneId zone) {
+        return withClock(clock.withZone(zone));
+    }
+
+    /**
+     * Returns a new registry with the same conversions, recording call counts, failures and timings of its
+     * conversion plans into the given metrics, see {@link ConversionMetrics}.
+     *
+     * @param metrics The metrics to record into, {@code null} to disable recording.
+     * @return the new registry.
+     */
+    public ConversionRegistry withMetrics(final ConversionMetrics metrics) {
+        return new ConversionRegistry(conversions, chainCosts, clock, metrics, canonicalCaches);
+    }
+
+    /**
+     * Returns the metrics this registry records into.
+     *
+     * @return the metrics or {@code null} if recording is disabled.
+     */
+    public ConversionMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns a new registry with the same conversions, whose conversions to the given target type return shared
+     * instances for equal results, held by a bounded {@link CanonicalCache}. Meant for immutable types with few
+     * distinct values in many repetitions e.g. status strings, ids or {@link java.util.UUID}s.
+     * Derived snapshots share the cache.
+     *
+     * @param <T>        The target type.
+     * @param targetType The class of the immutable target type.
+     * @param capacity   The maximum number of cached instances, {@code 0} or less to remove the cache.
+     * @return the new registry.
+     */
+    public <T> ConversionRegistry withCanonicalCache(final Class<T> targetType, final int capacity) {
+        final Map<Class<?>, CanonicalCache<?>> result = new HashMap<>(canonicalCaches);
+        if (capacity > 0) {
+            result.put(targetType, new CanonicalCache<>(targetType, capacity));
+        } else {
+            result.remove(targetType);
+        }
+        return new ConversionRegistry(conversions, chainCosts, clock, metrics, Collections.unmodifiableMap(result));
+    }
+
+    /**
+     * Returns the canonical cache of the given target type.
+     *
+     * @param <T>        The target type.
+     * @param targetType The class of the target type.
+     * @return the cache or {@code null} if results of this type are not canonicalized.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CanonicalCache<T> canonicalCacheOf(final Class<T> targetType) {
+        return (CanonicalCache<T>) canonicalCaches.get(targetType);
+    }
+
+    /**
+     * Returns the clock used by the {@link TemporalConversion}s of this registry.
+     *
+     * @return the clock.
+     */
+    public Clock clock() {
+        return clock;
+    }
+
+    /**
+     * Returns the zone used by the {@link TemporalConversion}s of this registry.
+     *
+     * @return the zone of the {@link #clock()}.
+     */
+    public ZoneId zone() {
+        return clock.getZone();
+    }
+
+    /**
+     * Returns all conversions of this registry, keyed by target type and then by source type.
+     *
+     * @return an unmodifiable map of the conversions.
+     */
+    public Map<Class<?>, Map<Class<?>, FunctionOrNull>> conversions() {
+        return conversions;
+    }
+
+    /**
+     * Returns the resolved conversion function from the source type to the target type.
+     * The plan covers the most specific registered converter (see {@link #findConverter(Class, Class)}),
+     * the cheapest chain of lossless converters (see {@link #conversionPathOf(Class, Class)}) and, as last resort,
+     * the fallback via {@link String#valueOf(Object)}. If no conversion applies, the returned function
+     * always yields {@code null}. Plans are cached per (source, target) pair for the lifetime of this registry.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return the conversion function, never {@code null}.
+     */
+    public FunctionOrNull conversionPlanOf(final Class<?> sourceType, final Class<?> targetType) {
+        return conversionPlans.get(sourceType).computeIfAbsent(targetType, target -> canonical(target, resolvePlan(sourceType, target)));
+    }
+
+    /**
+     * Returns {@code true} if this registry knows a way from the source type to the target type: the target is
+     * a supertype or an enum, a registered converter, a chain of converters or the fallback via {@link String}
+     * applies. It doesn't guarantee that every value converts. Results are cached per (source, target) pair.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return {@code true} if a conversion applies.
+     */
+    public boolean canConvert(final Class<?> sourceType, final Class<?> targetType) {
+        return convertible.get(sourceType).computeIfAbsent(targetType, target -> target.isAssignableFrom(sourceType)
+            || target.isEnum()
+            || findConverter(sourceType, target) != null
+            || (!target.isPrimitive() && !String.class.equals(target) && !conversionPathOf(sourceType, target).isEmpty())
+            || (!String.class.equals(sourceType) && canConvert(String.class, target)));
+    }
+
+    /**
+     * Finds the most specific registered converter for the given source and target type.
+     * Candidates are checked in the order of {@link #typeHierarchyOf(Class)}, so the exact source
+     * type wins over its superclasses and superclasses win over interfaces of the same distance.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return a {@link Pair} of the registered source type and its conversion function, or {@code null} if none applies.
+     */
+    public Pair<Class<?>, FunctionOrNull> findConverter(final Class<?> sourceType, final Class<?> targetType) {
+        final Map<Class<?>, FunctionOrNull> sources = conversions.get(targetType);
+        if (sources != null && !sources.isEmpty()) {
+            for (final Class<?> candidate : TYPE_HIERARCHY.get(sourceType)) {
+                final FunctionOrNull conversion = sources.get(candidate);
+                if (conversion != null) {
+                    return new Pair<>(candidate, conversion);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the cheapest chain of lossless converters from the source type to the target type, treating the
+     * conversions registered via {@link #with(Class, Class, FunctionOrNull, int)} as a weighted graph.
+     * A hop is only taken if the most specific converter of its pair (see {@link #findConverter(Class, Class)})
+     * is lossless, so a lossy converter of a supertype e.g. {@code Number -> Long} is never chained for a
+     * {@link Double}. Chains are limited to {@value #MAX_CONVERSION_HOPS} hops, ties are broken by the number
+     * of hops and then by type name. Primitive types and {@link String} are never used as a hop, as the round
+     * trip via {@link String} stays the last resort of {@link #conversionPlanOf(Class, Class)}.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return the types along the cheapest chain, starting with the source type and ending with the target type, or an empty list if no chain exists.
+     */
+    public List<Class<?>> conversionPathOf(final Class<?> sourceType, final Class<?> targetType) {
+        final Set<Class<?>> settled = new HashSet<>();
+        final PriorityQueue<Route> queue = new PriorityQueue<>(ROUTE_ORDER);
+        queue.add(new Route(sourceType, null, 0, 0));
+        while (!queue.isEmpty()) {
+            final Route route = queue.poll();
+            if (route.type() == targetType) {
+                return route.path();
+            } else if (!settled.add(route.type()) || route.hops() >= MAX_CONVERSION_HOPS) {
+                continue;
+            }
+            for (final Class<?> next : pathNodes()) {
+                final int cost = settled.contains(next) ? 0 : chainCostOf(route.type(), next);
+                if (cost > 0) {
+                    queue.add(new Route(next, route, route.cost() + cost, route.hops() + 1));
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Returns the given type followed by all its superclasses and interfaces, ordered by
+     * inheritance distance. On the same distance, superclasses come before interfaces and
+     * interfaces keep their declaration order.
+     *
+     * @param type The class to inspect.
+     * @return an unmodifiable, deterministic list of the type hierarchy.
+     */
+    public static List<Class<?>> typeHierarchyOf(final Class<?> type) {
+        return List.of(TYPE_HIERARCHY.get(type));
+    }
+
+    private FunctionOrNull resolvePlan(final Class<?> sourceType, final Class<?> targetType) {
+        final Pair<Class<?>, FunctionOrNull> converter = findConverter(sourceType, targetType);
+        if (converter != null) {
+            return metered(sourceType, targetType, bound(converter.value()), false);
+        }
+
+        // Chain registered converters e.g. AtomicLong -> Long -> OffsetDateTime
+        final List<Class<?>> path = targetType.isPrimitive() || String.class.equals(targetType) ? List.of() : conversionPathOf(sourceType, targetType);
+        if (!path.isEmpty()) {
+            return metered(sourceType, targetType, chainOf(path), false);
+        }
+
+        // Fallback to string convert
+        return String.class.equals(sourceType)
+            ? metered(sourceType, targetType, NO_CONVERSION, false)
+            : metered(sourceType, targetType, value -> TypeConverter.convertObj(String.valueOf(value), targetType, this), true);
+    }
+
+    private List<Class<?>> pathNodes() {
+        List<Class<?>> result = pathNodes;
+        if (result == null) {
+            result = chainCosts.keySet().stream()
+                .filter(type -> !type.isPrimitive() && type != String.class)
+                .sorted(Comparator.comparing(Class::getName))
+                .toList();
+            pathNodes = result;
+        }
+        return result;
+    }
+
+    private int chainCostOf(final Class<?> sourceType, final Class<?> targetType) {
+        final Pair<Class<?>, FunctionOrNull> converter = findConverter(sourceType, targetType);
+        return converter == null ? 0 : chainCosts.get(targetType).getOrDefault(converter.key(), 0);
+    }
+
+    private FunctionOrNull metered(final Class<?> sourceType, final Class<?> targetType, final FunctionOrNull plan, final boolean fallback) {
+        return metrics == null ? plan : metrics.meter(sourceType, targetType, plan, fallback);
+    }
+
+    @SuppressWarnings("unchecked")
+    private FunctionOrNull canonical(final Class<?> targetType, final FunctionOrNull plan) {
+        final CanonicalCache cache = canonicalCaches.get(targetType);
+        return cache == null ? plan : value -> cache.canonical(plan.applyWithException(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private FunctionOrNull chainOf(final List<Class<?>> path) {
+        final FunctionOrNull[] steps = new FunctionOrNull[path.size() - 1];
+        for (int i = 0; i < steps.length; i++) {
+            steps[i] = bound(findConverter(path.get(i), path.get(i + 1)).value());
+        }
+        return value -> {
+            Object result = value;
+            for (int i = 0; i < steps.length && result != null; i++) {
+                result = steps[i].applyWithException(result);
+            }
+            return result;
+        };
+    }
+
+    private FunctionOrNull bound(final FunctionOrNull conversion) {
+        return conversion instanceof final TemporalConversion temporal ? temporal.boundTo(this) : conversion;
+    }
+
+    private record Route(Class<?> type, Route previous, int cost, int hops) {
+        List<Class<?>> path() {
+            final LinkedList<Class<?>> result = new LinkedList<>();
+            for (Route route = this; route != null; route = route.previous()) {
+                result.addFirst(route.type());
+            }
+            return List.copyOf(result);
+        }
+    }
+
+    private static Class<?>[] hierarchyOf(final Class<?> type) {
+        final Set<Class<?>> result = new LinkedHashSet<>();
+        List<Class<?>> level = List.of(type);
+        while (!level.isEmpty()) {
+            final List<Class<?>> next = new ArrayList<>();
+            for (final Class<?> current : level) {
+                if (result.add(current)) {
+                    if (current.getSuperclass() != null) {
+                        next.add(current.getSuperclass());
+                    }
+                    next.addAll(asList(current.getInterfaces()));
+                }
+            }
+            level = next;
+        }
+        return result.toArray(new Class<?>[0]);
+    }
+
+    private ConversionRegistry(final Map<Class<?>, Map<Class<?>, FunctionOrNull>> conversions, final Map<Class<?>, Map<Class<?>, Integer>> chainCosts, final Clock clock, final ConversionMetrics metrics, final Map<Class<?>, CanonicalCache<?>> canonicalCaches) {
+        this.conversions = conversions;
+        this.chainCosts = chainCosts;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.canonicalCaches = canonicalCaches;
+    }
+}
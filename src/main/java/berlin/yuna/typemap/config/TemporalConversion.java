@@ -0,0 +1,44 @@
+package berlin.yuna.typemap.config;
+
+import berlin.yuna.typemap.model.FunctionOrNull;
+
+import java.time.Clock;
+
+/**
+ * A conversion which depends on the current time or the time zone, e.g. {@code LocalDateTime -> Instant}.
+ * The {@link ConversionRegistry} binds it to its own {@link ConversionRegistry#clock()} and
+ * {@link ConversionRegistry#zone()} once per conversion plan, so the zone isn't looked up per call.
+ * Applied without a registry, it uses the global {@link TypeConversionRegister#conversionRegistry()}.
+ *
+ * @param <S> the type of the input to the function.
+ * @param <T> the type of the result of the function.
+ */
+@FunctionalInterface
+public interface TemporalConversion<S, T> extends FunctionOrNull<S, T> {
+
+    /**
+     * Applies this function to the given argument using the clock and zone of the given registry.
+     *
+     * @param source   the function argument.
+     * @param registry the registry providing the {@link Clock} and zone.
+     * @return the function result.
+     * @throws Exception if an error occurs during function application.
+     */
+    @SuppressWarnings("java:S112")
+    T applyWithException(S source, ConversionRegistry registry) throws Exception;
+
+    @Override
+    default T applyWithException(final S source) throws Exception {
+        return applyWithException(source, TypeConversionRegister.conversionRegistry());
+    }
+
+    /**
+     * Returns this conversion bound to the clock and zone of the given registry.
+     *
+     * @param registry the registry providing the {@link Clock} and zone.
+     * @return the bound function.
+     */
+    default FunctionOrNull<S, T> boundTo(final ConversionRegistry registry) {
+        return source -> applyWithException(source, registry);
+    }
+}
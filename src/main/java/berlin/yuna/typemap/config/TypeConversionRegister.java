@@ -1,8 +1,14 @@
 package berlin.yuna.typemap.config;
 
 
+import berlin.yuna.typemap.logic.ExactNumbers;
+import berlin.yuna.typemap.logic.NumberParser;
+import berlin.yuna.typemap.logic.TemporalCodec;
+import berlin.yuna.typemap.logic.TemporalParser;
+import berlin.yuna.typemap.logic.ThrowableRenderer;
 import berlin.yuna.typemap.logic.TypeConverter;
 import berlin.yuna.typemap.model.FunctionOrNull;
+import berlin.yuna.typemap.model.Pair;
 
 import java.io.File;
 import java.math.BigDecimal;
@@ -19,15 +25,14 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.TextStyle;
-import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalAccessor;
-import java.time.temporal.TemporalQueries;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 import static java.time.temporal.ChronoField.NANO_OF_SECOND;
 import static java.util.Arrays.asList;
@@ -41,13 +46,29 @@ import static java.util.Arrays.asList;
  */
 public class TypeConversionRegister<S, T> {
 
+    /**
+     * The current global {@link ConversionRegistry} snapshot, replaced atomically on every registration.
+     */
+    private static final AtomicReference<ConversionRegistry> REGISTRY = new AtomicReference<>(ConversionRegistry.empty());
+
     /**
      * A map where the key is the target type and the value is another map.
      * The nested map's key is the source type, and the value is the conversion
      * function that can convert from the source type to the target type.
+     * This is a live view of the current {@link #conversionRegistry()}. Writes to this map and its nested maps
+     * are forwarded to {@link #registerTypeConvert(Class, Class, FunctionOrNull)}, removals are not supported.
+     *
+     * @deprecated use {@link #registerTypeConvert(Class, Class, FunctionOrNull)} to add conversions
+     * and {@link #conversionRegistry()} to read them.
      */
-    @SuppressWarnings({"rawtypes", "java:S2386"})
-    public static final Map<Class<?>, Map<Class<?>, FunctionOrNull>> TYPE_CONVERSIONS = new ConcurrentHashMap<>();
+    @Deprecated
+    @SuppressWarnings({"rawtypes", "java:S2386", "java:S1133"})
+    public static final Map<Class<?>, Map<Class<?>, FunctionOrNull>> TYPE_CONVERSIONS = new ConversionsView();
+
+    /**
+     * Maximum number of converters chained by {@link #conversionPathOf(Class, Class)}.
+     */
+    public static final int MAX_CONVERSION_HOPS = ConversionRegistry.MAX_CONVERSION_HOPS;
 
     /**
      * Registers a conversion function that can convert an object of the source type
@@ -60,7 +81,133 @@ public class TypeConversionRegister<S, T> {
      * @param conversion The function that will perform the conversion.
      */
     public static <S, T> void registerTypeConvert(final Class<S> sourceType, final Class<T> targetType, final FunctionOrNull<S, T> conversion) {
-        TYPE_CONVERSIONS.computeIfAbsent(targetType, k -> new HashMap<>()).put(sourceType, conversion);
+        REGISTRY.updateAndGet(registry -> registry.with(sourceType, targetType, conversion));
+    }
+
+    /**
+     * Registers a lossless conversion function which {@link #conversionPathOf(Class, Class)} may chain
+     * with other lossless conversions, see {@link ConversionRegistry#with(Class, Class, FunctionOrNull, int)}.
+     *
+     * @param <S>        The source type.
+     * @param <T>        The target type.
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @param conversion The function that will perform the conversion without losing information.
+     * @param cost       The relative cost of the conversion as a chain hop, {@code 0} or less to never chain it.
+     */
+    public static <S, T> void registerLosslessConvert(final Class<S> sourceType, final Class<T> targetType, final FunctionOrNull<S, T> conversion, final int cost) {
+        REGISTRY.updateAndGet(registry -> registry.with(sourceType, targetType, conversion, cost));
+    }
+
+    /**
+     * Returns the current global registry snapshot. The snapshot is immutable and never changes,
+     * later registrations only affect snapshots returned afterwards.
+     *
+     * @return the current {@link ConversionRegistry}.
+     */
+    public static ConversionRegistry conversionRegistry() {
+        return REGISTRY.get();
+    }
+
+    /**
+     * Atomically replaces the global registry, e.g. with a snapshot taken earlier via {@link #conversionRegistry()}.
+     *
+     * @param registry The new global registry.
+     * @return the previous global registry.
+     */
+    public static ConversionRegistry conversionRegistry(final ConversionRegistry registry) {
+        return REGISTRY.getAndSet(Objects.requireNonNull(registry, "registry"));
+    }
+
+    /**
+     * Atomically replaces the global registry with the result of the given function.
+     *
+     * @param update The function deriving the new global registry from the current one.
+     * @return the new global registry.
+     */
+    public static ConversionRegistry updateConversionRegistry(final UnaryOperator<ConversionRegistry> update) {
+        return REGISTRY.updateAndGet(registry -> Objects.requireNonNull(update.apply(registry), "registry"));
+    }
+
+    /**
+     * Returns a new registry with the conversions of the given one, whose conversions between {@link Number} types
+     * are exact, see {@link ExactNumbers}. Values which would be truncated, rounded or overflow convert to {@code null}
+     * instead of a different number, e.g. {@code Long.MAX_VALUE} to {@link Integer} or {@code 1.5} to {@link Long}.
+     * Use {@link #conversionRegistry(ConversionRegistry)} to make the exact mode global.
+     *
+     * @param registry The registry to extend.
+     * @return the new registry.
+     */
+    public static ConversionRegistry exactNumbers(final ConversionRegistry registry) {
+        return registry
+            .with(Number.class, Long.class, ExactNumbers::longOf)
+            .with(Number.class, Integer.class, ExactNumbers::integerOf)
+            .with(Number.class, Float.class, ExactNumbers::floatOf)
+            .with(Number.class, Double.class, ExactNumbers::doubleOf)
+            .with(Number.class, Short.class, ExactNumbers::shortOf)
+            .with(Number.class, Byte.class, ExactNumbers::byteOf)
+            .with(Number.class, BigInteger.class, ExactNumbers::bigIntegerOf)
+            .with(Number.class, BigDecimal.class, ExactNumbers::bigDecimalOf)
+            .with(Number.class, AtomicInteger.class, number -> Optional.ofNullable(ExactNumbers.integerOf(number)).map(AtomicInteger::new).orElse(null))
+            .with(Number.class, AtomicLong.class, number -> Optional.ofNullable(ExactNumbers.longOf(number)).map(AtomicLong::new).orElse(null))
+            // specializations of the most common pairs, skipping the type dispatch
+            .with(Long.class, BigDecimal.class, BigDecimal::valueOf)
+            .with(Integer.class, BigDecimal.class, number -> BigDecimal.valueOf(number.longValue()))
+            .with(Long.class, BigInteger.class, BigInteger::valueOf)
+            .with(BigInteger.class, BigDecimal.class, BigDecimal::new)
+            .with(BigDecimal.class, Long.class, ExactNumbers::longOf)
+            .with(BigDecimal.class, BigInteger.class, ExactNumbers::bigIntegerOf)
+            .with(BigInteger.class, Long.class, ExactNumbers::longOf);
+    }
+
+    /**
+     * Returns the resolved conversion function of the current global registry,
+     * see {@link ConversionRegistry#conversionPlanOf(Class, Class)}. Plans are cached per
+     * (source, target) pair until the next {@link #registerTypeConvert(Class, Class, FunctionOrNull)}.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return the conversion function, never {@code null}.
+     */
+    @SuppressWarnings("rawtypes")
+    public static FunctionOrNull conversionPlanOf(final Class<?> sourceType, final Class<?> targetType) {
+        return REGISTRY.get().conversionPlanOf(sourceType, targetType);
+    }
+
+    /**
+     * Finds the most specific registered converter of the current global registry,
+     * see {@link ConversionRegistry#findConverter(Class, Class)}.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return a {@link Pair} of the registered source type and its conversion function, or {@code null} if none applies.
+     */
+    @SuppressWarnings("rawtypes")
+    public static Pair<Class<?>, FunctionOrNull> findConverter(final Class<?> sourceType, final Class<?> targetType) {
+        return REGISTRY.get().findConverter(sourceType, targetType);
+    }
+
+    /**
+     * Returns the given type followed by all its superclasses and interfaces, ordered by
+     * inheritance distance, see {@link ConversionRegistry#typeHierarchyOf(Class)}.
+     *
+     * @param type The class to inspect.
+     * @return an unmodifiable, deterministic list of the type hierarchy.
+     */
+    public static List<Class<?>> typeHierarchyOf(final Class<?> type) {
+        return ConversionRegistry.typeHierarchyOf(type);
+    }
+
+    /**
+     * Finds the cheapest chain of lossless converters of the current global registry,
+     * see {@link ConversionRegistry#conversionPathOf(Class, Class)}.
+     *
+     * @param sourceType The class of the source type.
+     * @param targetType The class of the target type.
+     * @return the types along the cheapest chain, starting with the source type and ending with the target type, or an empty list if no chain exists.
+     */
+    public static List<Class<?>> conversionPathOf(final Class<?> sourceType, final Class<?> targetType) {
+        return REGISTRY.get().conversionPathOf(sourceType, targetType);
     }
 
     /**
@@ -265,15 +412,15 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(Number.class, Boolean.class, number -> number.intValue() == 1);
 
         // ATOMIC TYPES
-        registerTypeConvert(AtomicInteger.class, Integer.class, AtomicInteger::get);
+        registerLosslessConvert(AtomicInteger.class, Integer.class, AtomicInteger::get, 1);
         registerTypeConvert(Number.class, AtomicInteger.class, number -> new AtomicInteger(number.intValue()));
-        registerTypeConvert(AtomicLong.class, Long.class, AtomicLong::get);
+        registerLosslessConvert(AtomicLong.class, Long.class, AtomicLong::get, 1);
         registerTypeConvert(Number.class, AtomicLong.class, number -> new AtomicLong(number.longValue()));
-        registerTypeConvert(AtomicBoolean.class, Boolean.class, AtomicBoolean::get);
-        registerTypeConvert(Boolean.class, AtomicBoolean.class, AtomicBoolean::new);
+        registerLosslessConvert(AtomicBoolean.class, Boolean.class, AtomicBoolean::get, 1);
+        registerLosslessConvert(Boolean.class, AtomicBoolean.class, AtomicBoolean::new, 2);
         registerTypeConvert(String.class, AtomicBoolean.class, string -> new AtomicBoolean(Boolean.parseBoolean(string) || "1".equals(string)));
-        registerTypeConvert(String.class, AtomicInteger.class, string -> new AtomicInteger(Integer.parseInt(string)));
-        registerTypeConvert(String.class, AtomicLong.class, string -> new AtomicLong(Long.parseLong(string)));
+        registerTypeConvert(String.class, AtomicInteger.class, string -> Optional.ofNullable(NumberParser.integerOf(string)).map(AtomicInteger::new).orElse(null));
+        registerTypeConvert(String.class, AtomicLong.class, string -> Optional.ofNullable(NumberParser.longOf(string)).map(AtomicLong::new).orElse(null));
 
         // PRIMITIVES TO WRAPPERS
         registerTypeConvert(int.class, Integer.class, Integer::valueOf);
@@ -293,6 +440,16 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(Character.class, char.class, Character::charValue);
         registerTypeConvert(Boolean.class, boolean.class, Boolean::booleanValue);
 
+        // PRIMITIVE ARRAYS e.g. int[] -> long[]
+        final List<Class<?>> numericArrays = List.of(byte[].class, short[].class, int[].class, long[].class, float[].class, double[].class);
+        for (final Class<?> source : numericArrays) {
+            for (final Class<?> target : numericArrays) {
+                if (source != target) {
+                    registerArrayConvert(source, target);
+                }
+            }
+        }
+
         // STRINGS
         registerTypeConvert(String.class, Character.class, string -> string.charAt(0));
         registerTypeConvert(Character.class, String.class, Object::toString);
@@ -301,25 +458,25 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(String.class, Boolean.class, string -> Boolean.parseBoolean(string) || "1".equals(string));
         registerTypeConvert(Enum.class, String.class, Enum::name);
         registerTypeConvert(Throwable.class, String.class, TypeConversionRegister::stringOf);
-        registerTypeConvert(String.class, Integer.class, Integer::valueOf);
-        registerTypeConvert(String.class, Long.class, Long::valueOf);
-        registerTypeConvert(String.class, Float.class, Float::valueOf);
-        registerTypeConvert(String.class, Double.class, Double::valueOf);
-        registerTypeConvert(String.class, Short.class, Short::valueOf);
-        registerTypeConvert(String.class, Byte.class, Byte::valueOf);
-        registerTypeConvert(String.class, BigInteger.class, BigInteger::new);
-        registerTypeConvert(String.class, BigDecimal.class, BigDecimal::new);
-        registerTypeConvert(String.class, Number.class, Double::valueOf);
+        registerTypeConvert(String.class, Integer.class, NumberParser::integerOf);
+        registerTypeConvert(String.class, Long.class, NumberParser::longOf);
+        registerTypeConvert(String.class, Float.class, NumberParser::floatOf);
+        registerTypeConvert(String.class, Double.class, NumberParser::doubleOf);
+        registerTypeConvert(String.class, Short.class, NumberParser::shortOf);
+        registerTypeConvert(String.class, Byte.class, NumberParser::byteOf);
+        registerTypeConvert(String.class, BigInteger.class, NumberParser::bigIntegerOf);
+        registerTypeConvert(String.class, BigDecimal.class, NumberParser::bigDecimalOf);
+        registerTypeConvert(String.class, Number.class, NumberParser::doubleOf);
         registerTypeConvert(StringBuilder.class, String.class, StringBuilder::toString);
         registerTypeConvert(String.class, StringBuilder.class, StringBuilder::new);
         registerTypeConvert(String.class, Charset.class, Charset::forName);
 
         // PATH
-        registerTypeConvert(Path.class, File.class, Path::toFile);
+        registerLosslessConvert(Path.class, File.class, Path::toFile, 2);
         registerTypeConvert(Path.class, URI.class, Path::toUri);
         registerTypeConvert(Path.class, URL.class, path -> path.toUri().toURL());
         registerTypeConvert(Path.class, String.class, Path::toString);
-        registerTypeConvert(File.class, Path.class, File::toPath);
+        registerLosslessConvert(File.class, Path.class, File::toPath, 2);
         registerTypeConvert(File.class, URI.class, File::toURI);
         registerTypeConvert(File.class, URL.class, file -> file.toURI().toURL());
         registerTypeConvert(File.class, String.class, File::toString);
@@ -349,31 +506,31 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(String.class, Inet6Address.class, string -> (Inet6Address) InetAddress.getByName(string));
 
         // TIME LONG
-        registerTypeConvert(Long.class, Date.class, timestamp -> new Date(toTimestampMs(timestamp)));
-        registerTypeConvert(Long.class, Instant.class, timestamp -> Instant.ofEpochMilli(toTimestampMs(timestamp)));
+        registerLosslessConvert(Long.class, Date.class, timestamp -> new Date(toTimestampMs(timestamp)), 2);
+        registerLosslessConvert(Long.class, Instant.class, timestamp -> Instant.ofEpochMilli(toTimestampMs(timestamp)), 2);
         registerTypeConvert(Long.class, Calendar.class, timestamp -> {
             final Calendar calendar = Calendar.getInstance();
             calendar.setTimeInMillis(toTimestampMs(timestamp));
             return calendar;
         });
-        registerTypeConvert(Long.class, LocalDateTime.class, timestamp -> LocalDateTime.ofInstant(Instant.ofEpochMilli(toTimestampMs(timestamp)), ZoneId.systemDefault()));
-        registerTypeConvert(Long.class, LocalDate.class, timestamp -> Instant.ofEpochMilli(toTimestampMs(timestamp)).atZone(ZoneId.systemDefault()).toLocalDate());
-        registerTypeConvert(Long.class, LocalTime.class, timestamp -> Instant.ofEpochMilli(toTimestampMs(timestamp)).atZone(ZoneId.systemDefault()).toLocalTime());
-        registerTypeConvert(Long.class, OffsetDateTime.class, timestamp -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(toTimestampMs(timestamp)), ZoneOffset.UTC));
-        registerTypeConvert(Long.class, ZonedDateTime.class, timestamp -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(toTimestampMs(timestamp)), ZoneId.systemDefault()));
+        registerTemporalConvert(Long.class, LocalDateTime.class, (timestamp, registry) -> TemporalCodec.localDateTimeOf(toTimestampMs(timestamp), registry.zone()));
+        registerTemporalConvert(Long.class, LocalDate.class, (timestamp, registry) -> TemporalCodec.localDateTimeOf(toTimestampMs(timestamp), registry.zone()).toLocalDate());
+        registerTemporalConvert(Long.class, LocalTime.class, (timestamp, registry) -> TemporalCodec.localDateTimeOf(toTimestampMs(timestamp), registry.zone()).toLocalTime());
+        registerLosslessConvert(Long.class, OffsetDateTime.class, timestamp -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(toTimestampMs(timestamp)), ZoneOffset.UTC), 2);
+        registerTemporalConvert(Long.class, ZonedDateTime.class, (timestamp, registry) -> TemporalCodec.zonedDateTimeOf(toTimestampMs(timestamp), registry.zone()));
         registerTypeConvert(Long.class, java.sql.Date.class, timestamp -> new java.sql.Date(toTimestampMs(timestamp)));
         registerTypeConvert(Long.class, Time.class, timestamp -> new Time(toTimestampMs(timestamp)));
-        registerTypeConvert(Long.class, Timestamp.class, timestamp -> new Timestamp(toTimestampMs(timestamp)));
+        registerLosslessConvert(Long.class, Timestamp.class, timestamp -> new Timestamp(toTimestampMs(timestamp)), 2);
 
         // DATE
-        registerTypeConvert(Date.class, Long.class, Date::getTime);
-        registerTypeConvert(Date.class, Instant.class, Date::toInstant);
+        registerLosslessConvert(Date.class, Long.class, Date::getTime, 1);
+        registerLosslessConvert(Date.class, Instant.class, Date::toInstant, 2);
         registerTypeConvert(Date.class, Calendar.class, TypeConversionRegister::calendarOf);
-        registerTypeConvert(Date.class, LocalDateTime.class, date -> LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
-        registerTypeConvert(Date.class, LocalDate.class, date -> date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
-        registerTypeConvert(Date.class, LocalTime.class, date -> date.toInstant().atZone(ZoneId.systemDefault()).toLocalTime());
-        registerTypeConvert(Date.class, OffsetDateTime.class, date -> date.toInstant().atOffset(ZoneId.systemDefault().getRules().getOffset(Instant.now())));
-        registerTypeConvert(Date.class, ZonedDateTime.class, date -> date.toInstant().atZone(ZoneId.systemDefault()));
+        registerTemporalConvert(Date.class, LocalDateTime.class, (date, registry) -> LocalDateTime.ofInstant(date.toInstant(), registry.zone()));
+        registerTemporalConvert(Date.class, LocalDate.class, (date, registry) -> date.toInstant().atZone(registry.zone()).toLocalDate());
+        registerTemporalConvert(Date.class, LocalTime.class, (date, registry) -> date.toInstant().atZone(registry.zone()).toLocalTime());
+        registerTemporalConvert(Date.class, OffsetDateTime.class, (date, registry) -> date.toInstant().atOffset(registry.zone().getRules().getOffset(registry.clock().instant())));
+        registerTemporalConvert(Date.class, ZonedDateTime.class, (date, registry) -> date.toInstant().atZone(registry.zone()));
         registerTypeConvert(Date.class, java.sql.Date.class, date -> new java.sql.Date(date.getTime()));
         registerTypeConvert(Date.class, Time.class, date -> new Time(date.getTime()));
         registerTypeConvert(Date.class, Timestamp.class, date -> new Timestamp(date.getTime()));
@@ -382,11 +539,12 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(Instant.class, Long.class, Instant::toEpochMilli);
         registerTypeConvert(Instant.class, Date.class, Date::from);
         registerTypeConvert(Instant.class, Calendar.class, instant -> calendarOf(instant.toEpochMilli()));
-        registerTypeConvert(Instant.class, LocalDateTime.class, instant -> instant.atZone(ZoneId.systemDefault()).toLocalDateTime());
-        registerTypeConvert(Instant.class, LocalDate.class, instant -> instant.atZone(ZoneId.systemDefault()).toLocalDate());
-        registerTypeConvert(Instant.class, LocalTime.class, instant -> instant.atZone(ZoneId.systemDefault()).toLocalTime());
-        registerTypeConvert(Instant.class, OffsetDateTime.class, instant -> instant.atOffset(ZoneId.systemDefault().getRules().getOffset(instant)));
-        registerTypeConvert(Instant.class, ZonedDateTime.class, instant -> instant.atZone(ZoneId.systemDefault()));
+        registerTypeConvert(Instant.class, String.class, TemporalCodec::stringOf);
+        registerTemporalConvert(Instant.class, LocalDateTime.class, (instant, registry) -> instant.atZone(registry.zone()).toLocalDateTime());
+        registerTemporalConvert(Instant.class, LocalDate.class, (instant, registry) -> instant.atZone(registry.zone()).toLocalDate());
+        registerTemporalConvert(Instant.class, LocalTime.class, (instant, registry) -> instant.atZone(registry.zone()).toLocalTime());
+        registerTemporalConvert(Instant.class, OffsetDateTime.class, (instant, registry) -> instant.atOffset(registry.zone().getRules().getOffset(instant)));
+        registerTemporalConvert(Instant.class, ZonedDateTime.class, (instant, registry) -> instant.atZone(registry.zone()));
         registerTypeConvert(Instant.class, java.sql.Date.class, instant -> new java.sql.Date(instant.toEpochMilli()));
         registerTypeConvert(Instant.class, Time.class, instant -> new Time(instant.toEpochMilli()));
         registerTypeConvert(Instant.class, Timestamp.class, Timestamp::from);
@@ -395,64 +553,66 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(Calendar.class, Long.class, Calendar::getTimeInMillis);
         registerTypeConvert(Calendar.class, Instant.class, Calendar::toInstant);
         registerTypeConvert(Calendar.class, Date.class, Calendar::getTime);
-        registerTypeConvert(Calendar.class, LocalDateTime.class, calendar -> LocalDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()));
-        registerTypeConvert(Calendar.class, LocalDate.class, calendar -> LocalDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()).toLocalDate());
-        registerTypeConvert(Calendar.class, LocalTime.class, calendar -> LocalDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()).toLocalTime());
-        registerTypeConvert(Calendar.class, OffsetDateTime.class, calendar -> OffsetDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()));
-        registerTypeConvert(Calendar.class, ZonedDateTime.class, calendar -> ZonedDateTime.ofInstant(calendar.toInstant(), ZoneId.systemDefault()));
+        registerTemporalConvert(Calendar.class, LocalDateTime.class, (calendar, registry) -> LocalDateTime.ofInstant(calendar.toInstant(), registry.zone()));
+        registerTemporalConvert(Calendar.class, LocalDate.class, (calendar, registry) -> LocalDateTime.ofInstant(calendar.toInstant(), registry.zone()).toLocalDate());
+        registerTemporalConvert(Calendar.class, LocalTime.class, (calendar, registry) -> LocalDateTime.ofInstant(calendar.toInstant(), registry.zone()).toLocalTime());
+        registerTemporalConvert(Calendar.class, OffsetDateTime.class, (calendar, registry) -> OffsetDateTime.ofInstant(calendar.toInstant(), registry.zone()));
+        registerTemporalConvert(Calendar.class, ZonedDateTime.class, (calendar, registry) -> ZonedDateTime.ofInstant(calendar.toInstant(), registry.zone()));
         registerTypeConvert(Calendar.class, java.sql.Date.class, calendar -> new java.sql.Date(calendar.getTimeInMillis()));
         registerTypeConvert(Calendar.class, Time.class, calendar -> new Time(calendar.getTimeInMillis()));
         registerTypeConvert(Calendar.class, Timestamp.class, calendar -> new Timestamp(calendar.getTimeInMillis()));
 
         // LOCAL DATE TIME
-        registerTypeConvert(LocalDateTime.class, Long.class, ldt -> ldt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
-        registerTypeConvert(LocalDateTime.class, Instant.class, ldt -> ldt.atZone(ZoneId.systemDefault()).toInstant());
-        registerTypeConvert(LocalDateTime.class, Calendar.class, ldt -> calendarOf(Date.from(ldt.atZone(ZoneId.systemDefault()).toInstant())));
-        registerTypeConvert(LocalDateTime.class, Date.class, ldt -> Date.from(ldt.atZone(ZoneId.systemDefault()).toInstant()));
+        registerTemporalConvert(LocalDateTime.class, Long.class, (ldt, registry) -> ldt.atZone(registry.zone()).toInstant().toEpochMilli());
+        registerTemporalConvert(LocalDateTime.class, Instant.class, (ldt, registry) -> ldt.atZone(registry.zone()).toInstant());
+        registerTemporalConvert(LocalDateTime.class, Calendar.class, (ldt, registry) -> calendarOf(Date.from(ldt.atZone(registry.zone()).toInstant())));
+        registerTemporalConvert(LocalDateTime.class, Date.class, (ldt, registry) -> Date.from(ldt.atZone(registry.zone()).toInstant()));
+        registerTypeConvert(LocalDateTime.class, String.class, TemporalCodec::stringOf);
         registerTypeConvert(LocalDateTime.class, LocalDate.class, LocalDateTime::toLocalDate);
         registerTypeConvert(LocalDateTime.class, LocalTime.class, LocalDateTime::toLocalTime);
-        registerTypeConvert(LocalDateTime.class, OffsetDateTime.class, ldt -> ldt.atZone(ZoneId.systemDefault()).toOffsetDateTime());
-        registerTypeConvert(LocalDateTime.class, ZonedDateTime.class, ldt -> ldt.atZone(ZoneId.systemDefault()));
+        registerTemporalConvert(LocalDateTime.class, OffsetDateTime.class, (ldt, registry) -> ldt.atZone(registry.zone()).toOffsetDateTime());
+        registerTemporalConvert(LocalDateTime.class, ZonedDateTime.class, (ldt, registry) -> ldt.atZone(registry.zone()));
         registerTypeConvert(LocalDateTime.class, java.sql.Date.class, ldt -> java.sql.Date.valueOf(ldt.toLocalDate()));
         registerTypeConvert(LocalDateTime.class, Time.class, ldt -> Time.valueOf(ldt.toLocalTime()));
         registerTypeConvert(LocalDateTime.class, Timestamp.class, Timestamp::valueOf);
 
 
         // LOCAL DATE
-        registerTypeConvert(LocalDate.class, Long.class, ld -> ld.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
-        registerTypeConvert(LocalDate.class, Instant.class, ld -> ld.atStartOfDay(ZoneId.systemDefault()).toInstant());
-        registerTypeConvert(LocalDate.class, Calendar.class, ld -> calendarOf(Date.from(ld.atStartOfDay(ZoneId.systemDefault()).toInstant())));
-        registerTypeConvert(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay);
-        registerTypeConvert(LocalDate.class, Date.class, ld -> Date.from(ld.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+        registerTemporalConvert(LocalDate.class, Long.class, (ld, registry) -> ld.atStartOfDay(registry.zone()).toInstant().toEpochMilli());
+        registerTemporalConvert(LocalDate.class, Instant.class, (ld, registry) -> ld.atStartOfDay(registry.zone()).toInstant());
+        registerTemporalConvert(LocalDate.class, Calendar.class, (ld, registry) -> calendarOf(Date.from(ld.atStartOfDay(registry.zone()).toInstant())));
+        registerLosslessConvert(LocalDate.class, LocalDateTime.class, LocalDate::atStartOfDay, 2);
+        registerTemporalConvert(LocalDate.class, Date.class, (ld, registry) -> Date.from(ld.atStartOfDay(registry.zone()).toInstant()));
         registerTypeConvert(LocalDate.class, LocalTime.class, ld -> null);
-        registerTypeConvert(LocalDate.class, OffsetDateTime.class, ld -> ld.atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime());
-        registerTypeConvert(LocalDate.class, ZonedDateTime.class, ld -> ld.atStartOfDay(ZoneId.systemDefault()));
+        registerTemporalConvert(LocalDate.class, OffsetDateTime.class, (ld, registry) -> ld.atStartOfDay(registry.zone()).toOffsetDateTime());
+        registerTemporalConvert(LocalDate.class, ZonedDateTime.class, (ld, registry) -> ld.atStartOfDay(registry.zone()));
         registerTypeConvert(LocalDate.class, java.sql.Date.class, java.sql.Date::valueOf);
         registerTypeConvert(LocalDate.class, Time.class, ld -> null);
         registerTypeConvert(LocalDate.class, Timestamp.class, ld -> Timestamp.valueOf(ld.atStartOfDay()));
 
         // LOCAL TIME
-        registerTypeConvert(LocalTime.class, Long.class, source -> Instant.now().toEpochMilli());
+        registerTemporalConvert(LocalTime.class, Long.class, (source, registry) -> registry.clock().instant().toEpochMilli());
         registerTypeConvert(LocalTime.class, Instant.class, lt -> null);
-        registerTypeConvert(LocalTime.class, Calendar.class, TypeConversionRegister::calendarOf);
-        registerTypeConvert(LocalTime.class, LocalDateTime.class, lt -> lt.atDate(LocalDate.now()));
+        registerTemporalConvert(LocalTime.class, Calendar.class, (lt, registry) -> calendarOf(lt, registry.clock()));
+        registerTemporalConvert(LocalTime.class, LocalDateTime.class, (lt, registry) -> lt.atDate(LocalDate.now(registry.clock())));
         registerTypeConvert(LocalTime.class, LocalDate.class, lt -> null);
-        registerTypeConvert(LocalTime.class, Date.class, lt -> calendarOf(lt).getTime());
-        registerTypeConvert(LocalTime.class, OffsetDateTime.class, lt -> OffsetDateTime.of(LocalDate.MIN, lt, ZoneId.systemDefault().getRules().getOffset(Instant.now())));
-        registerTypeConvert(LocalTime.class, ZonedDateTime.class, lt -> ZonedDateTime.of(LocalDate.MIN, lt, ZoneId.systemDefault()));
+        registerTemporalConvert(LocalTime.class, Date.class, (lt, registry) -> calendarOf(lt, registry.clock()).getTime());
+        registerTemporalConvert(LocalTime.class, OffsetDateTime.class, (lt, registry) -> OffsetDateTime.of(LocalDate.MIN, lt, registry.zone().getRules().getOffset(registry.clock().instant())));
+        registerTemporalConvert(LocalTime.class, ZonedDateTime.class, (lt, registry) -> ZonedDateTime.of(LocalDate.MIN, lt, registry.zone()));
         registerTypeConvert(LocalTime.class, java.sql.Date.class, lt -> java.sql.Date.valueOf(LocalDate.MIN));
         registerTypeConvert(LocalTime.class, Time.class, Time::valueOf);
-        registerTypeConvert(LocalTime.class, Timestamp.class, lt -> new Timestamp(calendarOf(lt).getTimeInMillis()));
+        registerTemporalConvert(LocalTime.class, Timestamp.class, (lt, registry) -> new Timestamp(calendarOf(lt, registry.clock()).getTimeInMillis()));
 
         // OFFSET DATE TIME
         registerTypeConvert(OffsetDateTime.class, Long.class, odt -> odt.toInstant().toEpochMilli());
         registerTypeConvert(OffsetDateTime.class, Instant.class, OffsetDateTime::toInstant);
         registerTypeConvert(OffsetDateTime.class, Calendar.class, odt -> calendarOf(Date.from(odt.toInstant())));
+        registerTypeConvert(OffsetDateTime.class, String.class, TemporalCodec::stringOf);
         registerTypeConvert(OffsetDateTime.class, LocalDateTime.class, OffsetDateTime::toLocalDateTime);
         registerTypeConvert(OffsetDateTime.class, LocalDate.class, OffsetDateTime::toLocalDate);
         registerTypeConvert(OffsetDateTime.class, LocalTime.class, OffsetDateTime::toLocalTime);
         registerTypeConvert(OffsetDateTime.class, Date.class, odt -> Date.from(odt.toInstant()));
-        registerTypeConvert(OffsetDateTime.class, ZonedDateTime.class, OffsetDateTime::toZonedDateTime);
+        registerLosslessConvert(OffsetDateTime.class, ZonedDateTime.class, OffsetDateTime::toZonedDateTime, 2);
         registerTypeConvert(OffsetDateTime.class, java.sql.Date.class, odt -> java.sql.Date.valueOf(odt.toLocalDate()));
         registerTypeConvert(OffsetDateTime.class, Time.class, odt -> Time.valueOf(odt.toLocalTime()));
         registerTypeConvert(OffsetDateTime.class, Timestamp.class, odt -> Timestamp.from(odt.toInstant()));
@@ -477,8 +637,8 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(java.sql.Date.class, LocalDateTime.class, date -> date.toLocalDate().atStartOfDay());
         registerTypeConvert(java.sql.Date.class, LocalDate.class, java.sql.Date::toLocalDate);
         registerTypeConvert(java.sql.Date.class, LocalTime.class, date -> null);
-        registerTypeConvert(java.sql.Date.class, OffsetDateTime.class, date -> date.toLocalDate().atStartOfDay().atZone(ZoneId.systemDefault()).toOffsetDateTime());
-        registerTypeConvert(java.sql.Date.class, ZonedDateTime.class, date -> date.toLocalDate().atStartOfDay(ZoneId.systemDefault()));
+        registerTemporalConvert(java.sql.Date.class, OffsetDateTime.class, (date, registry) -> date.toLocalDate().atStartOfDay().atZone(registry.zone()).toOffsetDateTime());
+        registerTemporalConvert(java.sql.Date.class, ZonedDateTime.class, (date, registry) -> date.toLocalDate().atStartOfDay(registry.zone()));
         registerTypeConvert(java.sql.Date.class, Date.class, date -> new Date(date.getTime()));
         registerTypeConvert(java.sql.Date.class, Time.class, date -> null);
         registerTypeConvert(java.sql.Date.class, Timestamp.class, date -> new Timestamp(date.getTime()));
@@ -494,15 +654,15 @@ public class TypeConversionRegister<S, T> {
         });
         registerTypeConvert(Time.class, LocalDate.class, time -> null);
         registerTypeConvert(Time.class, LocalTime.class, Time::toLocalTime);
-        registerTypeConvert(Time.class, OffsetDateTime.class, time -> {
+        registerTemporalConvert(Time.class, OffsetDateTime.class, (time, registry) -> {
             final LocalDate date = LocalDate.ofEpochDay(0);
             final LocalTime localTime = time.toLocalTime();
-            return LocalDateTime.of(date, localTime).atZone(ZoneId.systemDefault()).toOffsetDateTime();
+            return LocalDateTime.of(date, localTime).atZone(registry.zone()).toOffsetDateTime();
         });
-        registerTypeConvert(Time.class, ZonedDateTime.class, time -> {
+        registerTemporalConvert(Time.class, ZonedDateTime.class, (time, registry) -> {
             final LocalDate date = LocalDate.ofEpochDay(0);
             final LocalTime localTime = time.toLocalTime();
-            return LocalDateTime.of(date, localTime).atZone(ZoneId.systemDefault());
+            return LocalDateTime.of(date, localTime).atZone(registry.zone());
         });
         registerTypeConvert(Time.class, java.sql.Date.class, time -> null);
         registerTypeConvert(Time.class, Date.class, time -> new Date(time.getTime()));
@@ -515,72 +675,50 @@ public class TypeConversionRegister<S, T> {
         registerTypeConvert(Timestamp.class, LocalDateTime.class, Timestamp::toLocalDateTime);
         registerTypeConvert(Timestamp.class, LocalDate.class, timestamp -> timestamp.toLocalDateTime().toLocalDate());
         registerTypeConvert(Timestamp.class, LocalTime.class, timestamp -> timestamp.toLocalDateTime().toLocalTime());
-        registerTypeConvert(Timestamp.class, OffsetDateTime.class, timestamp -> timestamp.toLocalDateTime().atZone(ZoneId.systemDefault()).toOffsetDateTime());
-        registerTypeConvert(Timestamp.class, ZonedDateTime.class, timestamp -> timestamp.toLocalDateTime().atZone(ZoneId.systemDefault()));
+        registerTemporalConvert(Timestamp.class, OffsetDateTime.class, (timestamp, registry) -> timestamp.toLocalDateTime().atZone(registry.zone()).toOffsetDateTime());
+        registerTemporalConvert(Timestamp.class, ZonedDateTime.class, (timestamp, registry) -> timestamp.toLocalDateTime().atZone(registry.zone()));
         registerTypeConvert(Timestamp.class, java.sql.Date.class, timestamp -> new java.sql.Date(timestamp.getTime()));
         registerTypeConvert(Timestamp.class, Time.class, timestamp -> new Time(timestamp.getTime()));
         registerTypeConvert(Timestamp.class, Date.class, timestamp -> new Date(timestamp.getTime()));
 
         // STRING TIME
-        registerTypeConvert(String.class, Date.class, string -> temporalOf(Date.class, string, time -> Date.from(Instant.from(time))));
-        registerTypeConvert(String.class, Instant.class, string -> temporalOf(Instant.class, string, Instant::from));
-        registerTypeConvert(String.class, Calendar.class, string -> temporalOf(Calendar.class, string, time -> GregorianCalendar.from(ZonedDateTime.from(time))));
-        registerTypeConvert(String.class, LocalDateTime.class, string -> temporalOf(LocalDateTime.class, string, LocalDateTime::from));
-        registerTypeConvert(String.class, LocalDate.class, string -> temporalOf(LocalDate.class, string, LocalDate::from));
-        registerTypeConvert(String.class, LocalTime.class, string -> temporalOf(LocalTime.class, string, LocalTime::from));
-        registerTypeConvert(String.class, OffsetDateTime.class, string -> temporalOf(OffsetDateTime.class, string, time -> {
+        registerTemporalConvert(String.class, Date.class, (string, registry) -> TemporalParser.temporalOf(Date.class, string, time -> Date.from(Instant.from(time)), registry));
+        registerTemporalConvert(String.class, Instant.class, (string, registry) -> TemporalParser.temporalOf(Instant.class, string, Instant::from, registry));
+        registerTemporalConvert(String.class, Calendar.class, (string, registry) -> TemporalParser.temporalOf(Calendar.class, string, time -> GregorianCalendar.from(ZonedDateTime.from(time)), registry));
+        registerTemporalConvert(String.class, LocalDateTime.class, (string, registry) -> TemporalParser.temporalOf(LocalDateTime.class, string, LocalDateTime::from, registry));
+        registerTemporalConvert(String.class, LocalDate.class, (string, registry) -> TemporalParser.temporalOf(LocalDate.class, string, LocalDate::from, registry));
+        registerTemporalConvert(String.class, LocalTime.class, (string, registry) -> TemporalParser.temporalOf(LocalTime.class, string, LocalTime::from, registry));
+        registerTemporalConvert(String.class, OffsetDateTime.class, (string, registry) -> TemporalParser.temporalOf(OffsetDateTime.class, string, time -> {
             final ZonedDateTime zonedDateTime = ZonedDateTime.from(time);
             return OffsetDateTime.of(zonedDateTime.toLocalDateTime(), zonedDateTime.getOffset());
-        }));
-        registerTypeConvert(String.class, ZonedDateTime.class, string -> temporalOf(ZonedDateTime.class, string, ZonedDateTime::from));
-        registerTypeConvert(String.class, java.sql.Date.class, string -> temporalOf(java.sql.Date.class, string, time -> java.sql.Date.valueOf(LocalDate.from(time))));
-        registerTypeConvert(String.class, Time.class, string -> temporalOf(Time.class, string, time -> Time.valueOf(LocalTime.from(time))));
-        registerTypeConvert(String.class, Timestamp.class, string -> temporalOf(Timestamp.class, string, time -> Timestamp.from(Instant.from(time))));
+        }, registry));
+        registerTemporalConvert(String.class, ZonedDateTime.class, (string, registry) -> TemporalParser.temporalOf(ZonedDateTime.class, string, ZonedDateTime::from, registry));
+        registerTemporalConvert(String.class, java.sql.Date.class, (string, registry) -> TemporalParser.temporalOf(java.sql.Date.class, string, time -> java.sql.Date.valueOf(LocalDate.from(time)), registry));
+        registerTemporalConvert(String.class, Time.class, (string, registry) -> TemporalParser.temporalOf(Time.class, string, time -> Time.valueOf(LocalTime.from(time)), registry));
+        registerTemporalConvert(String.class, Timestamp.class, (string, registry) -> TemporalParser.temporalOf(Timestamp.class, string, time -> Timestamp.from(Instant.from(time)), registry));
     }
 
-    public static <T> T temporalOf(final Class<T> target, final String string, final java.util.function.Function<TemporalAccessor, T> converter) {
-        final String input = string.replaceAll("\\s+", " ").replace(" at ", " ");
-//            .replaceFirst("^(\\d{4})/(\\d{1,2})/(\\d{1,2})(\\b)", "$1-$2-$3$4");
-        for (final DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
-            try {
-                return converter.apply(normalizeTemporal(formatter.parse(input)));
-            } catch (final DateTimeException ignored) {
-                // parse or extraction failed; try next formatter
-            }
-            try {
-                return berlin.yuna.typemap.logic.TypeConverter.convertObj(toTimestampMs(Long.parseLong(string)), target);
-            } catch (final Exception ignored) {
-                // not a pure number; keep trying
-            }
-        }
-        return null;
+    /**
+     * Parses the given string to a temporal type, see {@link TemporalParser#temporalOf(Class, String, Function)}.
+     *
+     * @param <T>       the target type.
+     * @param target    the target class.
+     * @param string    the string to parse.
+     * @param converter the conversion of the parsed temporal to the target type.
+     * @return the converted value or {@code null} if no formatter matches.
+     */
+    public static <T> T temporalOf(final Class<T> target, final String string, final Function<TemporalAccessor, T> converter) {
+        return TemporalParser.temporalOf(target, string, converter);
     }
 
-    private static TemporalAccessor normalizeTemporal(final TemporalAccessor ta) {
-        // Already has an instant or zone/offset -> leave it alone
-        if (ta.isSupported(ChronoField.INSTANT_SECONDS)) return ta;
-        if (ta.query(TemporalQueries.zone()) != null) return ta;               // ZoneId or ZoneOffset present
-        if (ta.isSupported(ChronoField.OFFSET_SECONDS)) return ta;             // offset-only
-
-        final ZoneId zone = ZoneId.systemDefault();
-
-        final boolean hasDate = ta.isSupported(ChronoField.EPOCH_DAY)
-            || ta.query(TemporalQueries.localDate()) != null;
-        final boolean hasTime = ta.isSupported(ChronoField.NANO_OF_DAY)
-            || ta.query(TemporalQueries.localTime()) != null;
-
-        if (hasDate && hasTime) {
-            return ZonedDateTime.of(LocalDate.from(ta), LocalTime.from(ta), zone);
-        }
-        if (hasDate) {
-            return ZonedDateTime.of(LocalDate.from(ta), LocalTime.MIDNIGHT, zone);
-        }
-        if (hasTime) {
-            return ZonedDateTime.of(LocalDate.now(zone), LocalTime.from(ta), zone);
-        }
-        return ta; // nothing to upgrade
+    private static <S, T> void registerTemporalConvert(final Class<S> sourceType, final Class<T> targetType, final TemporalConversion<S, T> conversion) {
+        registerTypeConvert(sourceType, targetType, conversion);
     }
 
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void registerArrayConvert(final Class source, final Class target) {
+        registerTypeConvert(source, target, array -> TypeConverter.primitiveArrayOf(array, target));
+    }
 
     public static long toTimestampMs(final long timestamp) {
         return timestamp > 1800000000 ? timestamp : timestamp * 1000;
@@ -599,7 +737,19 @@ public class TypeConversionRegister<S, T> {
     }
 
     public static Calendar calendarOf(final LocalTime localTime) {
+        return calendarOf(localTime, TemporalCodec.defaultClock());
+    }
+
+    /**
+     * Returns a {@link Calendar} of the current date of the given clock at the given time.
+     *
+     * @param localTime the time of day.
+     * @param clock     the clock providing the current date.
+     * @return the calendar.
+     */
+    public static Calendar calendarOf(final LocalTime localTime, final Clock clock) {
         final Calendar cal = Calendar.getInstance();
+        cal.setTimeInMillis(clock.millis());
         cal.set(Calendar.HOUR_OF_DAY, localTime.getHour());
         cal.set(Calendar.MINUTE, localTime.getMinute());
         cal.set(Calendar.SECOND, localTime.getSecond());
@@ -607,39 +757,15 @@ public class TypeConversionRegister<S, T> {
         return cal;
     }
 
+    /**
+     * Renders the throwable and its causes without the frames of {@link #IGNORED_TRACE_ELEMENTS},
+     * see {@link ThrowableRenderer}.
+     *
+     * @param throwable the throwable to render.
+     * @return the rendered throwable.
+     */
     public static String stringOf(final Throwable throwable) {
-        final StringBuilder sb = new StringBuilder();
-        sb.append(throwable).append(LINE_SEPARATOR);
-        extractCause(sb, throwable, false);
-
-        // Include cause exceptions in the output
-        Throwable cause = throwable.getCause();
-        while (cause != null) {
-            sb.append("Caused by: ").append(cause).append(LINE_SEPARATOR);
-            extractCause(sb, cause, false);
-            cause = cause.getCause();
-        }
-
-        return sb.toString();
-    }
-
-    private static void extractCause(final StringBuilder sb, final Throwable throwable, final boolean includeJavaStack) {
-        final int previousLength = sb.length();
-        final int[] counter = new int[]{0};
-        for (final StackTraceElement ste : throwable.getStackTrace()) {
-            // Check if the class name does not start with 'java.' or 'javax.'
-            if (includeJavaStack || (IGNORED_TRACE_ELEMENTS.stream().noneMatch(ignoredElement -> ste.getClassName().startsWith(ignoredElement)))) {
-                sb.append("\tat ").append(ste).append(LINE_SEPARATOR);
-            }
-            if (includeJavaStack && sb.length() != previousLength && counter[0] >= 2) {
-                break;
-            }
-            counter[0] = counter[0] + 1;
-        }
-
-        if (!includeJavaStack && sb.length() == previousLength) {
-            extractCause(sb, throwable, true);
-        }
+        return ThrowableRenderer.stringOf(throwable);
     }
 
     // ########## FLUENT & REGISTRATION ##########
@@ -682,6 +808,87 @@ public class TypeConversionRegister<S, T> {
         return this;
     }
 
+    /**
+     * Live view of the conversions of the global registry, see {@link #TYPE_CONVERSIONS}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class ConversionsView extends AbstractMap<Class<?>, Map<Class<?>, FunctionOrNull>> {
+
+        @Override
+        public Map<Class<?>, FunctionOrNull> get(final Object key) {
+            return key instanceof final Class<?> targetType && containsKey(targetType) ? new SourcesView(targetType) : null;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return REGISTRY.get().conversions().containsKey(key);
+        }
+
+        @Override
+        public Map<Class<?>, FunctionOrNull> put(final Class<?> targetType, final Map<Class<?>, FunctionOrNull> sources) {
+            final Map<Class<?>, FunctionOrNull> previous = REGISTRY.get().conversions().get(targetType);
+            new SourcesView(targetType).putAll(sources);
+            return previous;
+        }
+
+        @Override
+        public Map<Class<?>, FunctionOrNull> computeIfAbsent(final Class<?> targetType, final Function<? super Class<?>, ? extends Map<Class<?>, FunctionOrNull>> mapping) {
+            if (!containsKey(targetType)) {
+                final Map<Class<?>, FunctionOrNull> sources = mapping.apply(targetType);
+                if (sources == null) {
+                    return null;
+                }
+                new SourcesView(targetType).putAll(sources);
+            }
+            return new SourcesView(targetType);
+        }
+
+        @Override
+        public Set<Entry<Class<?>, Map<Class<?>, FunctionOrNull>>> entrySet() {
+            return REGISTRY.get().conversions().entrySet();
+        }
+    }
+
+    /**
+     * Live view of the conversions to one target type of the global registry, see {@link #TYPE_CONVERSIONS}.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class SourcesView extends AbstractMap<Class<?>, FunctionOrNull> {
+
+        private final Class<?> targetType;
+
+        SourcesView(final Class<?> targetType) {
+            this.targetType = targetType;
+        }
+
+        @Override
+        public FunctionOrNull get(final Object key) {
+            return sources().get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return sources().containsKey(key);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public FunctionOrNull put(final Class<?> sourceType, final FunctionOrNull conversion) {
+            final FunctionOrNull previous = get(sourceType);
+            registerTypeConvert((Class) sourceType, (Class) targetType, conversion);
+            return previous;
+        }
+
+        @Override
+        public Set<Entry<Class<?>, FunctionOrNull>> entrySet() {
+            return sources().entrySet();
+        }
+
+        private Map<Class<?>, FunctionOrNull> sources() {
+            return REGISTRY.get().conversions().getOrDefault(targetType, Map.of());
+        }
+    }
+
     private TypeConversionRegister(final Class<S> source, final Class<T> target) {
         this.source = source;
         this.target = target;
@@ -0,0 +1,278 @@
+package berlin.yuna.typemap.logic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Converts numbers between types without silent truncation, overflow or rounding.
+ * Unlike {@link Number#longValue()} and friends, a value which doesn't fit the target type exactly
+ * returns {@code null} (or the given fallback for primitives) instead of a different number.
+ * Conversions are checked by hand and never throw, integral sources are widened without
+ * a round trip via {@code double}.
+ * <p>
+ * Floating point values are compared by their shortest decimal representation, the same one
+ * {@link BigDecimal#valueOf(double)} uses, e.g. {@code new BigDecimal("0.1")} converts to {@code 0.1d} and back.
+ * Number types outside the JDK are read via their {@link Object#toString()}.
+ * </p>
+ */
+@SuppressWarnings("java:S3776")
+public class ExactNumbers {
+
+    private static final double LONG_LIMIT = 0x1p63;
+    private static final float LONG_LIMIT_FLOAT = 0x1p63f;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    /**
+     * Converts the number to a {@link Long} if it is integral and within the {@code long} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or out of range.
+     */
+    public static Long longOf(final Number value) {
+        if (isIntegral(value)) {
+            return value.longValue();
+        } else if (value instanceof final BigDecimal decimal) {
+            return longOf(decimal);
+        } else if (value instanceof final BigInteger integer) {
+            return longOf(integer);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = value.doubleValue();
+            return isLong(number) ? (long) number : null;
+        }
+        return value == null ? null : longOf(decimalOf(value));
+    }
+
+    /**
+     * Converts the decimal to a {@link Long} if it is integral and within the {@code long} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or out of range.
+     */
+    public static Long longOf(final BigDecimal value) {
+        if (value == null) {
+            return null;
+        } else if (value.scale() <= 0 && value.precision() - value.scale() <= MAX_LONG_DIGITS) {
+            return value.longValue();
+        } else if (value.precision() - value.scale() > MAX_LONG_DIGITS + 1) {
+            return null;
+        }
+        final BigInteger integer = bigIntegerOf(value);
+        return integer == null ? null : longOf(integer);
+    }
+
+    /**
+     * Converts the integer to a {@link Long} if it is within the {@code long} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null} or out of range.
+     */
+    public static Long longOf(final BigInteger value) {
+        return value == null || value.bitLength() > Long.SIZE - 1 ? null : value.longValue();
+    }
+
+    /**
+     * Converts the number to an {@link Integer} if it is integral and within the {@code int} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or out of range.
+     */
+    public static Integer integerOf(final Number value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.intValue();
+        }
+        final Long result = longOf(value);
+        return result != null && result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE ? result.intValue() : null;
+    }
+
+    /**
+     * Converts the number to a {@link Short} if it is integral and within the {@code short} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or out of range.
+     */
+    public static Short shortOf(final Number value) {
+        final Long result = longOf(value);
+        return result != null && result >= Short.MIN_VALUE && result <= Short.MAX_VALUE ? result.shortValue() : null;
+    }
+
+    /**
+     * Converts the number to a {@link Byte} if it is integral and within the {@code byte} range.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or out of range.
+     */
+    public static Byte byteOf(final Number value) {
+        final Long result = longOf(value);
+        return result != null && result >= Byte.MIN_VALUE && result <= Byte.MAX_VALUE ? result.byteValue() : null;
+    }
+
+    /**
+     * Converts the number to a {@link Double} if the {@code double} represents it exactly.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null} or not representable.
+     */
+    public static Double doubleOf(final Number value) {
+        return value != null && isDouble(value, value.doubleValue()) ? value.doubleValue() : null;
+    }
+
+    /**
+     * Converts the number to a {@link Float} if the {@code float} represents it exactly.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null} or not representable.
+     */
+    public static Float floatOf(final Number value) {
+        return value != null && isFloat(value, value.floatValue()) ? value.floatValue() : null;
+    }
+
+    /**
+     * Converts the number to a {@link BigInteger} if it is integral.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null}, fractional or not finite.
+     */
+    public static BigInteger bigIntegerOf(final Number value) {
+        if (value instanceof final BigInteger integer) {
+            return integer;
+        } else if (isIntegral(value)) {
+            return BigInteger.valueOf(value.longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = value.doubleValue();
+            return isLong(number) ? BigInteger.valueOf((long) number) : bigIntegerOf(bigDecimalOf(value));
+        }
+        return value == null ? null : bigIntegerOf(value instanceof final BigDecimal decimal ? decimal : decimalOf(value));
+    }
+
+    /**
+     * Converts the decimal to a {@link BigInteger} if it has no fraction.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null} or fractional.
+     */
+    public static BigInteger bigIntegerOf(final BigDecimal value) {
+        if (value == null) {
+            return null;
+        } else if (value.scale() <= 0 || value.signum() == 0) {
+            return value.toBigInteger();
+        }
+        return value.stripTrailingZeros().scale() <= 0 ? value.toBigInteger() : null;
+    }
+
+    /**
+     * Converts the number to a {@link BigDecimal}, integral values keep scale {@code 0}.
+     *
+     * @param value the number to convert.
+     * @return the converted value or {@code null} if the value is {@code null} or not finite.
+     */
+    public static BigDecimal bigDecimalOf(final Number value) {
+        if (value instanceof final BigDecimal decimal) {
+            return decimal;
+        } else if (isIntegral(value)) {
+            return BigDecimal.valueOf(value.longValue());
+        } else if (value instanceof final BigInteger integer) {
+            return new BigDecimal(integer);
+        } else if (value instanceof final Float number) {
+            return Float.isFinite(number) ? new BigDecimal(Float.toString(number)) : null;
+        } else if (value instanceof final Double number) {
+            return Double.isFinite(number) ? BigDecimal.valueOf(number) : null;
+        }
+        return value == null ? null : decimalOf(value);
+    }
+
+    /**
+     * Converts the number to a primitive {@code long}, see {@link #longOf(Number)}.
+     *
+     * @param value    the number to convert.
+     * @param fallback the value returned if the number doesn't fit exactly.
+     * @return the converted value or the fallback.
+     */
+    public static long toLong(final Number value, final long fallback) {
+        if (isIntegral(value)) {
+            return value.longValue();
+        }
+        final Long result = longOf(value);
+        return result == null ? fallback : result;
+    }
+
+    /**
+     * Converts the number to a primitive {@code int}, see {@link #integerOf(Number)}.
+     *
+     * @param value    the number to convert.
+     * @param fallback the value returned if the number doesn't fit exactly.
+     * @return the converted value or the fallback.
+     */
+    public static int toInt(final Number value, final int fallback) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.intValue();
+        }
+        final long result = toLong(value, Long.MIN_VALUE);
+        return result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE ? (int) result : fallback;
+    }
+
+    /**
+     * Converts the number to a primitive {@code double}, see {@link #doubleOf(Number)}.
+     *
+     * @param value    the number to convert.
+     * @param fallback the value returned if the number isn't representable exactly.
+     * @return the converted value or the fallback.
+     */
+    public static double toDouble(final Number value, final double fallback) {
+        return value != null && isDouble(value, value.doubleValue()) ? value.doubleValue() : fallback;
+    }
+
+    private static boolean isIntegral(final Number value) {
+        return value instanceof Long
+            || value instanceof Integer
+            || value instanceof Short
+            || value instanceof Byte
+            || value instanceof AtomicLong
+            || value instanceof AtomicInteger
+            || value instanceof LongAdder;
+    }
+
+    private static boolean isLong(final double value) {
+        return value >= -LONG_LIMIT && value < LONG_LIMIT && value == Math.rint(value);
+    }
+
+    private static boolean isDouble(final Number value, final double result) {
+        if (value instanceof Double || value instanceof Float) {
+            return true;
+        } else if (isIntegral(value)) {
+            return result < LONG_LIMIT && (long) result == value.longValue();
+        } else if (!Double.isFinite(result)) {
+            return false;
+        } else if (value instanceof final BigInteger integer) {
+            return integer.bitLength() <= 53 || new BigDecimal(result).toBigInteger().equals(integer);
+        }
+        final BigDecimal decimal = bigDecimalOf(value);
+        return decimal != null && BigDecimal.valueOf(result).compareTo(decimal) == 0;
+    }
+
+    private static boolean isFloat(final Number value, final float result) {
+        if (value instanceof Float) {
+            return true;
+        } else if (value instanceof final Double number) {
+            return Double.isNaN(number) || result == number;
+        } else if (isIntegral(value)) {
+            return result < LONG_LIMIT_FLOAT && (long) result == value.longValue();
+        } else if (!Float.isFinite(result)) {
+            return false;
+        } else if (value instanceof final BigInteger integer) {
+            return integer.bitLength() <= 24 || new BigDecimal(result).toBigInteger().equals(integer);
+        }
+        final BigDecimal decimal = bigDecimalOf(value);
+        return decimal != null && new BigDecimal(Float.toString(result)).compareTo(decimal) == 0;
+    }
+
+    private static BigDecimal decimalOf(final Number value) {
+        return NumberParser.bigDecimalOf(value.toString());
+    }
+
+    private ExactNumbers() {
+        // static util class
+    }
+}
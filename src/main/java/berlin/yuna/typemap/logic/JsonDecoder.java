@@ -17,9 +17,12 @@ import java.io.UncheckedIOException;
 import java.io.PushbackInputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -34,9 +37,13 @@ public class JsonDecoder {
      */
     @SuppressWarnings("java:S1452")
     public static TypeInfo<?> typeOf(final String jsonOrXml) {
-        return jsonOrXml == null
-            ? new TypeList()
-            : typeOf(new ByteArrayInputStream(jsonOrXml.getBytes(UTF_8)));
+        if (jsonOrXml == null)
+            return new TypeList();
+        try {
+            return typeInfoOf(detectAndParse(jsonOrXml));
+        } catch (final IOException ignored) {
+            return new TypeList();
+        }
     }
 
     /**
@@ -53,8 +60,7 @@ public class JsonDecoder {
     @SuppressWarnings("java:S1452")
     public static TypeInfo<?> typeOf(final InputStream jsonOrXml, final Charset charset) {
         try {
-            final Object result = detectAndParse(jsonOrXml, charset);
-            return result instanceof TypeInfo ? (TypeInfo<?>) result : new TypeList().addR(result);
+            return typeInfoOf(detectAndParse(jsonOrXml, charset));
         } catch (final IOException ignored) {
             return new TypeList();
         }
@@ -67,13 +73,7 @@ public class JsonDecoder {
      * Returns an empty map when input is null, blank, or cannot be parsed.
      */
     public static LinkedTypeMap mapOf(final String jsonOrXml) {
-        if (jsonOrXml == null)
-            return new LinkedTypeMap();
-        try (final ByteArrayInputStream in = new ByteArrayInputStream(jsonOrXml.getBytes(UTF_8))) {
-            return mapOf(in, UTF_8);
-        } catch (final IOException ignored) {
-            return new LinkedTypeMap();
-        }
+        return mapOf((CharSequence) jsonOrXml);
     }
 
     /**
@@ -94,16 +94,10 @@ public class JsonDecoder {
      */
     public static LinkedTypeMap mapOf(final InputStream jsonOrXml, final Charset charset) {
         try {
-            final Object result = detectAndParse(jsonOrXml, charset);
-            if (result instanceof final LinkedTypeMap map) {
-                return map;
-            } else if (result != null) {
-                return new LinkedTypeMap().putR("", result);
-            }
+            return linkedTypeMapOf(detectAndParse(jsonOrXml, charset));
         } catch (final IOException ignored) {
-            // fallthrough to empty map
+            return new LinkedTypeMap();
         }
-        return new LinkedTypeMap();
     }
 
     /**
@@ -113,14 +107,7 @@ public class JsonDecoder {
      * Returns an empty list when input is null, blank, or cannot be parsed.
      */
     public static TypeList listOf(final String jsonOrXml) {
-        if (jsonOrXml == null) {
-            return new TypeList();
-        }
-        try (final ByteArrayInputStream in = new ByteArrayInputStream(jsonOrXml.getBytes(UTF_8))) {
-            return listOf(in, UTF_8);
-        } catch (final IOException ignored) {
-            return new TypeList();
-        }
+        return listOf((CharSequence) jsonOrXml);
     }
 
     /**
@@ -141,36 +128,38 @@ public class JsonDecoder {
      */
     public static TypeList listOf(final InputStream jsonOrXml, final Charset charset) {
         try {
-            final Object result = detectAndParse(jsonOrXml, charset);
-            if (result instanceof final TypeList list) {
-                return list;
-            } else if (result instanceof final LinkedTypeMap map) {
-                return new TypeList().addR(map);
-            } else if (result != null) {
-                return new TypeList(singletonList(result));
-            }
+            return typeListOf(detectAndParse(jsonOrXml, charset));
         } catch (final IOException ignored) {
-            // fallthrough
+            return new TypeList();
         }
-        return new TypeList();
     }
 
     /**
      * Parses JSON or XML CharSequence into a {@link LinkedTypeMap}.
      * JSON objects become map entries; arrays, XML, and primitive values are wrapped under the "" key.
+     * JSON is parsed straight from the characters, use {@link java.nio.CharBuffer#wrap(char[])} for arrays.
      * Returns an empty map when input is null, blank, or cannot be parsed.
      */
     public static LinkedTypeMap mapOf(final CharSequence jsonOrXml) {
-        return jsonOrXml == null ? new LinkedTypeMap() : mapOf(jsonOrXml.toString());
+        try {
+            return linkedTypeMapOf(detectAndParse(jsonOrXml));
+        } catch (final IOException ignored) {
+            return new LinkedTypeMap();
+        }
     }
 
     /**
      * Parses JSON or XML CharSequence into a {@link TypeList}.
      * JSON arrays and XML return the parsed list; objects and primitive values are wrapped into a single-item list.
+     * JSON is parsed straight from the characters, use {@link java.nio.CharBuffer#wrap(char[])} for arrays.
      * Returns an empty list when input is null, blank, or cannot be parsed.
      */
     public static TypeList listOf(final CharSequence jsonOrXml) {
-        return jsonOrXml == null ? new TypeList() : listOf(jsonOrXml.toString());
+        try {
+            return typeListOf(detectAndParse(jsonOrXml));
+        } catch (final IOException ignored) {
+            return new TypeList();
+        }
     }
 
     /**
@@ -179,11 +168,8 @@ public class JsonDecoder {
      * Uses the provided charset for JSON content. Returns an empty map when input is null or cannot be parsed.
      */
     public static LinkedTypeMap mapOf(final Path jsonOrXml, final Charset charset) {
-        if (jsonOrXml == null) {
-            return new LinkedTypeMap();
-        }
-        try (InputStream in = Files.newInputStream(jsonOrXml)) {
-            return mapOf(in, charset);
+        try {
+            return linkedTypeMapOf(detectAndParse(jsonOrXml, charset));
         } catch (final IOException ignored) {
             return new LinkedTypeMap();
         }
@@ -199,11 +185,8 @@ public class JsonDecoder {
      * Uses the provided charset for JSON content. Returns an empty list when input is null or cannot be parsed.
      */
     public static TypeList listOf(final Path jsonOrXml, final Charset charset) {
-        if (jsonOrXml == null) {
-            return new TypeList();
-        }
-        try (InputStream in = Files.newInputStream(jsonOrXml)) {
-            return listOf(in, charset);
+        try {
+            return typeListOf(detectAndParse(jsonOrXml, charset));
         } catch (final IOException ignored) {
             return new TypeList();
         }
@@ -355,10 +338,11 @@ public class JsonDecoder {
     }
 
     public static Object jsonOf(final String json) {
-        if (json == null) {
+        try {
+            return detectAndParse(json);
+        } catch (final IOException ignored) {
             return null;
         }
-        return jsonOf(new ByteArrayInputStream(json.getBytes(UTF_8)), UTF_8);
     }
 
     /**
@@ -393,7 +377,7 @@ public class JsonDecoder {
      * @return lazy stream of Type elements (close the stream to release the input)
      */
     public static Stream<Object> streamArray(final InputStream json, final Charset charset) throws IOException {
-        return JsonLenientParser.streamArray(new InputStreamReader(json, charset));
+        return UTF_8.equals(charset) ? JsonLenientParser.streamArray(json) : JsonLenientParser.streamArray(new InputStreamReader(json, charset));
     }
 
     /**
@@ -405,7 +389,7 @@ public class JsonDecoder {
      */
     @SuppressWarnings("java:S3776")
     public static Stream<Pair<String, Object>> streamObject(final InputStream json, final Charset charset) throws IOException {
-        return JsonLenientParser.streamObject(new InputStreamReader(json, charset));
+        return UTF_8.equals(charset) ? JsonLenientParser.streamObject(json) : JsonLenientParser.streamObject(new InputStreamReader(json, charset));
     }
 
     /**
@@ -433,7 +417,7 @@ public class JsonDecoder {
         if (json == null) {
             return Stream.empty();
         }
-        return streamJsonArray(new ByteArrayInputStream(json.getBytes(charset)), charset);
+        return UTF_8.equals(charset) ? streamJsonArray((CharSequence) json, charset) : streamJsonArray(new ByteArrayInputStream(json.getBytes(charset)), charset);
     }
 
     public static Stream<Pair<Integer, Object>> streamJsonArray(final String json) {
@@ -441,7 +425,17 @@ public class JsonDecoder {
     }
 
     public static Stream<Pair<Integer, Object>> streamJsonArray(final CharSequence json, final Charset charset) {
-        return json == null ? Stream.empty() : streamJsonArray(json.toString(), charset);
+        if (json == null) {
+            return Stream.empty();
+        } else if (!UTF_8.equals(charset)) {
+            return streamJsonArray(json.toString(), charset);
+        }
+        try {
+            final AtomicInteger index = new AtomicInteger(0);
+            return JsonLenientParser.errorTolerantStream(JsonLenientParser.streamArray(json).map(value -> new Pair<>(index.getAndIncrement(), value)));
+        } catch (final Exception ignored) {
+            return Stream.empty();
+        }
     }
 
     public static Stream<Pair<Integer, Object>> streamJsonArray(final CharSequence json) {
@@ -451,6 +445,12 @@ public class JsonDecoder {
     public static Stream<Pair<Integer, Object>> streamJsonArray(final Path path, final Charset charset) {
         if (path == null)
             return Stream.empty();
+        if (isMappable(path, charset)) {
+            return mapped(path, channel -> {
+                final AtomicInteger index = new AtomicInteger(0);
+                return JsonLenientParser.errorTolerantStream(JsonLenientParser.streamArray(channel).map(value -> new Pair<>(index.getAndIncrement(), value)));
+            });
+        }
         return open(() -> Files.newInputStream(path), charset, JsonDecoder::streamJsonArray);
     }
 
@@ -509,7 +509,7 @@ public class JsonDecoder {
         if (json == null) {
             return Stream.empty();
         }
-        return streamJsonObject(new ByteArrayInputStream(json.getBytes(charset)), charset);
+        return UTF_8.equals(charset) ? streamJsonObject((CharSequence) json, charset) : streamJsonObject(new ByteArrayInputStream(json.getBytes(charset)), charset);
     }
 
     public static Stream<Pair<String, Object>> streamJsonObject(final String json) {
@@ -517,7 +517,16 @@ public class JsonDecoder {
     }
 
     public static Stream<Pair<String, Object>> streamJsonObject(final CharSequence json, final Charset charset) {
-        return json == null ? Stream.empty() : streamJsonObject(json.toString(), charset);
+        if (json == null) {
+            return Stream.empty();
+        } else if (!UTF_8.equals(charset)) {
+            return streamJsonObject(json.toString(), charset);
+        }
+        try {
+            return JsonLenientParser.streamObject(json);
+        } catch (final Exception ignored) {
+            return Stream.empty();
+        }
     }
 
     public static Stream<Pair<String, Object>> streamJsonObject(final CharSequence json) {
@@ -527,6 +536,9 @@ public class JsonDecoder {
     public static Stream<Pair<String, Object>> streamJsonObject(final Path path, final Charset charset) {
         if (path == null)
             return Stream.empty();
+        if (isMappable(path, charset)) {
+            return mapped(path, JsonLenientParser::streamObject);
+        }
         return open(() -> Files.newInputStream(path), charset, JsonDecoder::streamJsonObject);
     }
 
@@ -618,7 +630,7 @@ public class JsonDecoder {
         if (json == null) {
             return Stream.empty();
         }
-        return streamJson(new ByteArrayInputStream(json.getBytes(charset)), charset);
+        return UTF_8.equals(charset) ? streamJson((CharSequence) json, charset) : streamJson(new ByteArrayInputStream(json.getBytes(charset)), charset);
     }
 
     /**
@@ -631,8 +643,22 @@ public class JsonDecoder {
     /**
      * Streams a JSON object or array from a {@link CharSequence} with the provided charset.
      */
+    @SuppressWarnings("unchecked")
     public static Stream<Pair<Object, Object>> streamJson(final CharSequence json, final Charset charset) {
-        return json == null ? Stream.empty() : streamJson(json.toString(), charset);
+        if (json == null) {
+            return Stream.empty();
+        } else if (!UTF_8.equals(charset)) {
+            return streamJson(json.toString(), charset);
+        }
+        final int start = firstNonWhitespace(json);
+        if (start == json.length())
+            return Stream.empty();
+        final char ch = json.charAt(start);
+        if (ch == '{')
+            return (Stream<Pair<Object, Object>>) (Stream<?>) streamJsonObject(json, charset);
+        if (ch == '[')
+            return (Stream<Pair<Object, Object>>) (Stream<?>) streamJsonArray(json, charset);
+        throw new UncheckedIOException(new IOException("Unsupported top-level token: " + ch));
     }
 
     /**
@@ -744,6 +770,7 @@ public class JsonDecoder {
     /**
      * Detects whether the input stream is XML (leading {@code &lt;}) or JSON and delegates to the appropriate parser.
      * Uses streaming to avoid buffering whole payloads; wraps incoming streams in a {@link PushbackInputStream}.
+     * UTF-8 JSON is tokenized straight from the bytes, other charsets are decoded via a {@link Reader}.
      *
      * @param input   stream to parse
      * @param charset charset to use when decoding JSON content
@@ -762,6 +789,8 @@ public class JsonDecoder {
             pushback.unread(ch);
             if (ch == '<') {
                 return XmlDecoder.xmlTypeOf(pushback);
+            } else if (UTF_8.equals(charset)) {
+                return JsonLenientParser.parse(pushback);
             }
             try (final Reader reader = buffered(new InputStreamReader(pushback, charset))) {
                 return JsonLenientParser.parse(reader);
@@ -769,6 +798,126 @@ public class JsonDecoder {
         }
     }
 
+    /**
+     * Detects whether the file is XML (leading {@code &lt;}) or JSON and delegates to the appropriate parser.
+     * UTF-8 JSON of regular files is tokenized straight from the file mapped into memory, files larger than
+     * {@link JsonLenientParser.Utf8Stream#MAP_SIZE} are remapped window by window.
+     *
+     * @param path    file to parse
+     * @param charset charset to use when decoding JSON content
+     * @return parsed structure or null on failure/empty input
+     * @throws IOException when the file cannot be read
+     */
+    public static Object detectAndParse(final Path path, final Charset charset) throws IOException {
+        if (path == null) {
+            return null;
+        }
+        if (isMappable(path, charset)) {
+            try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final long start = firstNonWhitespace(channel);
+                if (start == -1) {
+                    return null;
+                } else if (byteAt(channel, start) != '<') {
+                    return JsonLenientParser.parse(channel, start);
+                }
+            }
+        }
+        try (final InputStream in = Files.newInputStream(path)) {
+            return detectAndParse(in, charset);
+        }
+    }
+
+    /**
+     * Detects whether the text is XML (leading {@code &lt;}) or JSON and delegates to the appropriate parser.
+     * JSON is parsed straight from the characters without encoding them to bytes.
+     *
+     * @param input text to parse
+     * @return parsed structure or null on failure/empty input
+     * @throws IOException when the XML can't be read
+     */
+    public static Object detectAndParse(final CharSequence input) throws IOException {
+        if (input == null) {
+            return null;
+        }
+        final int start = firstNonWhitespace(input);
+        if (start == input.length()) {
+            return null;
+        } else if (input.charAt(start) == '<') {
+            return detectAndParse(new ByteArrayInputStream(input.toString().getBytes(UTF_8)), UTF_8);
+        }
+        return JsonLenientParser.parse(input);
+    }
+
+    private static TypeInfo<?> typeInfoOf(final Object result) {
+        return result instanceof TypeInfo ? (TypeInfo<?>) result : new TypeList().addR(result);
+    }
+
+    private static LinkedTypeMap linkedTypeMapOf(final Object result) {
+        if (result instanceof final LinkedTypeMap map) {
+            return map;
+        }
+        return result == null ? new LinkedTypeMap() : new LinkedTypeMap().putR("", result);
+    }
+
+    private static TypeList typeListOf(final Object result) {
+        if (result instanceof final TypeList list) {
+            return list;
+        } else if (result instanceof final LinkedTypeMap map) {
+            return new TypeList().addR(map);
+        }
+        return result == null ? new TypeList() : new TypeList(singletonList(result));
+    }
+
+    private interface MappedFactory<T> {
+        Stream<T> open(FileChannel channel) throws IOException;
+    }
+
+    private static <T> Stream<T> mapped(final Path path, final MappedFactory<T> factory) {
+        final FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            return factory.open(channel);
+        } catch (final Exception ignored) {
+            JsonLenientParser.closeQuietly(channel);
+            return Stream.empty();
+        }
+    }
+
+    private static boolean isMappable(final Path path, final Charset charset) {
+        return UTF_8.equals(charset) && Files.isRegularFile(path);
+    }
+
+    private static long firstNonWhitespace(final FileChannel channel) throws IOException {
+        final ByteBuffer chunk = ByteBuffer.allocate(512);
+        long position = 0;
+        while (channel.read(chunk.clear(), position) > 0) {
+            for (int i = 0; i < chunk.position(); i++) {
+                if (!Character.isWhitespace(chunk.get(i))) {
+                    return position + i;
+                }
+            }
+            position += chunk.position();
+        }
+        return -1;
+    }
+
+    private static int byteAt(final FileChannel channel, final long position) throws IOException {
+        final ByteBuffer single = ByteBuffer.allocate(1);
+        return channel.read(single, position) == 1 ? single.get(0) : -1;
+    }
+
+    private static int firstNonWhitespace(final CharSequence input) {
+        int result = 0;
+        while (result < input.length() && Character.isWhitespace(input.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+
     private static Reader buffered(final Reader reader) {
         return reader instanceof BufferedReader ? reader : new BufferedReader(reader, 8192);
     }
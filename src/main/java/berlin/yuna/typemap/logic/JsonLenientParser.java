@@ -1,13 +1,21 @@
 package berlin.yuna.typemap.logic;
 
+import berlin.yuna.typemap.config.CanonicalCache;
+import berlin.yuna.typemap.config.ConversionRegistry;
 import berlin.yuna.typemap.model.LinkedTypeMap;
 import berlin.yuna.typemap.model.Pair;
 import berlin.yuna.typemap.model.TypeList;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -15,29 +23,190 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static berlin.yuna.typemap.config.TypeConversionRegister.conversionRegistry;
 import static berlin.yuna.typemap.logic.JsonEncoder.unescapeJson;
-import static berlin.yuna.typemap.logic.TypeConverter.convertObj;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Spliterators.spliteratorUnknownSize;
 
 public class JsonLenientParser {
 
+    // streams never return raw text, so they don't capture it
+    private static final Options STREAM = Options.LENIENT.withRawLimit(0);
+
+    /**
+     * Options of a parse.
+     *
+     * @param strict   {@code true} to reject lenient syntax, i.e. unquoted keys and values, trailing commas and
+     *                 key-only objects, and to throw an {@link IllegalStateException} on malformed input instead of
+     *                 returning its raw text, so no raw text is captured.
+     * @param rawLimit the maximum number of characters, bytes for UTF-8 input, kept as raw text of malformed input.
+     * @param exact    {@code true} to parse decimals and integers beyond the {@code long} range as {@link BigDecimal}
+     *                 instead of {@link Double} and {@link String}.
+     * @param registry the registry providing the {@link CanonicalCache}s, {@code null} for the global registry.
+     */
+    public record Options(boolean strict, int rawLimit, boolean exact, ConversionRegistry registry) {
+
+        /**
+         * Lenient syntax is accepted, malformed input returns its first 8 KiB as raw text.
+         */
+        public static final Options LENIENT = new Options(false, 8 * 1024, false, null);
+        /**
+         * Only standard JSON is accepted, malformed input throws and no raw text is captured.
+         * After warm-up both modes parse within noise of each other, as the capture is bounded by the raw limit,
+         * see {@code JsonDecoderTest#benchmarkLenientVsStrict}.
+         */
+        public static final Options STRICT = new Options(true, 0, false, null);
+
+        /**
+         * Returns a copy with the given strict mode.
+         *
+         * @param strict {@code true} to reject lenient syntax and throw on malformed input.
+         * @return the new options.
+         */
+        public Options withStrict(final boolean strict) {
+            return new Options(strict, rawLimit, exact, registry);
+        }
+
+        /**
+         * Returns a copy with the given raw text limit.
+         *
+         * @param rawLimit the maximum number of characters kept as raw text, {@code 0} to disable the capture.
+         * @return the new options.
+         */
+        public Options withRawLimit(final int rawLimit) {
+            return new Options(strict, rawLimit, exact, registry);
+        }
+
+        /**
+         * Returns a copy with the given decimal mode.
+         *
+         * @param exact {@code true} to parse decimals as {@link BigDecimal}.
+         * @return the new options.
+         */
+        public Options withExact(final boolean exact) {
+            return new Options(strict, rawLimit, exact, registry);
+        }
+
+        /**
+         * Returns a copy using the canonical caches of the given registry.
+         *
+         * @param registry the registry, {@code null} for the global registry.
+         * @return the new options.
+         */
+        public Options withRegistry(final ConversionRegistry registry) {
+            return new Options(strict, rawLimit, exact, registry);
+        }
+
+        int captureLimit() {
+            return strict ? 0 : Math.max(0, rawLimit);
+        }
+    }
+
     public static Object parse(final Reader reader) throws IOException {
-        final LenientStream stream = new LenientStream(reader, 8 * 1024);
+        return parse(reader, Options.LENIENT);
+    }
+
+    public static Object parse(final Reader reader, final Options options) throws IOException {
+        return parse(new LenientStream(reader, options));
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON straight from the bytes of the given stream, see {@link Utf8Stream}.
+     *
+     * @param input the UTF-8 encoded JSON.
+     * @return the parsed value, the raw text if the input is malformed.
+     * @throws IOException if the input can't be read.
+     */
+    public static Object parse(final InputStream input) throws IOException {
+        return parse(input, Options.LENIENT);
+    }
+
+    public static Object parse(final InputStream input, final Options options) throws IOException {
+        return parse(new Utf8Stream(input, options));
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON from the given file mapped into memory, see {@link Utf8Stream}.
+     *
+     * @param channel  the file, left open.
+     * @param position the offset of the JSON in the file.
+     * @return the parsed value, the raw text if the input is malformed.
+     * @throws IOException if the file can't be mapped.
+     */
+    public static Object parse(final FileChannel channel, final long position) throws IOException {
+        return parse(channel, position, Options.LENIENT);
+    }
+
+    public static Object parse(final FileChannel channel, final long position, final Options options) throws IOException {
+        return parse(new Utf8Stream(channel, position, options));
+    }
+
+    /**
+     * Parses JSON straight from the given characters without copying them, see {@link CharStream}.
+     *
+     * @param json the JSON text e.g. a {@link String} or {@link CharBuffer#wrap(char[])}.
+     * @return the parsed value, the raw text if the input is malformed.
+     * @throws IOException never for in memory text, declared for the common stream signature.
+     */
+    public static Object parse(final CharSequence json) throws IOException {
+        return parse(json, Options.LENIENT);
+    }
+
+    public static Object parse(final CharSequence json, final Options options) throws IOException {
+        return parse(new CharStream(json, options));
+    }
+
+    /**
+     * Parses the given stream. Malformed input returns its raw text, see {@link Options#rawLimit()}, or with
+     * {@link Options#strict()} throws an {@link IllegalStateException}.
+     *
+     * @param stream the JSON source.
+     * @return the parsed value.
+     * @throws IOException if the input can't be read.
+     */
+    public static Object parse(final LenientStream stream) throws IOException {
+        final boolean strict = stream.options().strict();
         try {
             final Object value = parseValue(stream);
+            if (strict)
+                return value;
             if (value instanceof final LinkedTypeMap singleMap && singleMap.size() == 1 && singleMap.containsKey(""))
                 return singleMap.get("");
             if (value instanceof final LinkedTypeMap map && map.isEmpty() && "{}".contentEquals(stream.rawText().strip()))
                 return null;
             return value;
-        } catch (final RuntimeException ignored) {
+        } catch (final IllegalStateException e) {
+            if (strict) {
+                throw e;
+            }
+            final String raw = stream.rawText();
+            return raw.isEmpty() ? null : raw;
+        } catch (final RuntimeException e) {
+            if (strict) {
+                throw new IllegalStateException("Malformed JSON", e);
+            }
             final String raw = stream.rawText();
             return raw.isEmpty() ? null : raw;
         }
     }
 
     public static Stream<Object> streamArray(final Reader reader) throws IOException {
-        final LenientStream stream = new LenientStream(reader, 8 * 1024);
+        return streamArray(new LenientStream(reader, STREAM));
+    }
+
+    public static Stream<Object> streamArray(final InputStream input) throws IOException {
+        return streamArray(new Utf8Stream(input, STREAM));
+    }
+
+    public static Stream<Object> streamArray(final FileChannel channel) throws IOException {
+        return streamArray(new Utf8Stream(channel, 0, STREAM));
+    }
+
+    public static Stream<Object> streamArray(final CharSequence json) throws IOException {
+        return streamArray(new CharStream(json, STREAM));
+    }
+
+    public static Stream<Object> streamArray(final LenientStream stream) throws IOException {
         final int start = stream.nextNonWhitespace();
         if (start != '[') {
             throw new IllegalStateException("Expected array start '['");
@@ -87,12 +256,27 @@ public class JsonLenientParser {
         };
 
         return StreamSupport.stream(spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
-            .onClose(() -> closeQuietly(stream.reader));
+            .onClose(stream::close);
     }
 
-    @SuppressWarnings("java:S3776")
     public static Stream<Pair<String, Object>> streamObject(final Reader reader) throws IOException {
-        final LenientStream stream = new LenientStream(reader, 8 * 1024);
+        return streamObject(new LenientStream(reader, STREAM));
+    }
+
+    public static Stream<Pair<String, Object>> streamObject(final InputStream input) throws IOException {
+        return streamObject(new Utf8Stream(input, STREAM));
+    }
+
+    public static Stream<Pair<String, Object>> streamObject(final FileChannel channel) throws IOException {
+        return streamObject(new Utf8Stream(channel, 0, STREAM));
+    }
+
+    public static Stream<Pair<String, Object>> streamObject(final CharSequence json) throws IOException {
+        return streamObject(new CharStream(json, STREAM));
+    }
+
+    @SuppressWarnings("java:S3776")
+    public static Stream<Pair<String, Object>> streamObject(final LenientStream stream) throws IOException {
         final int start = stream.nextNonWhitespace();
         if (start != '{')
             throw new IllegalStateException("Expected object start '{'");
@@ -149,7 +333,7 @@ public class JsonLenientParser {
             }
         };
 
-        return errorTolerantStream(iterator, () -> closeQuietly(stream.reader));
+        return errorTolerantStream(iterator, stream::close);
     }
 
     public static <T> Stream<T> errorTolerantStream(final Iterator<T> iterator, final Runnable onClose) {
@@ -195,12 +379,18 @@ public class JsonLenientParser {
     @SuppressWarnings("java:S3776")
     public static LinkedTypeMap parseObject(final LenientStream stream) throws IOException {
         final LinkedTypeMap map = new LinkedTypeMap();
+        final boolean strict = stream.options().strict();
         while (true) {
             final int first = stream.nextNonWhitespace();
             if (first == '}') {
+                if (strict && !map.isEmpty()) {
+                    throw new IllegalStateException("Trailing comma in object");
+                }
                 return map;
             } else if (first == -1) {
                 throw new IllegalStateException("Unterminated object");
+            } else if (strict && first != '"') {
+                throw new IllegalStateException("Unquoted object key");
             }
             final String key = parseKey(stream, first);
             final int separator = stream.nextNonWhitespace();
@@ -213,7 +403,7 @@ public class JsonLenientParser {
                 } else if (sep != ',') {
                     throw new IllegalStateException("Invalid JSON object separator");
                 }
-            } else if (separator == '}' || separator == ',') {
+            } else if (!strict && (separator == '}' || separator == ',')) {
                 map.put("", key);
                 if (separator == '}') {
                     return map;
@@ -233,11 +423,11 @@ public class JsonLenientParser {
         while (true) {
             final int ch = stream.read();
             if (ch == -1) {
-                return token.toString();
+                return stream.text(token);
             }
             if (ch == ':') {
                 stream.unread(ch);
-                return token.toString();
+                return stream.text(token);
             }
             if (!Character.isWhitespace(ch)) {
                 token.append((char) ch);
@@ -247,9 +437,13 @@ public class JsonLenientParser {
 
     public static TypeList parseArray(final LenientStream stream) throws IOException {
         final TypeList list = new TypeList();
+        final boolean strict = stream.options().strict();
         while (true) {
             int ch = stream.nextNonWhitespace();
             if (ch == ']') {
+                if (strict && !list.isEmpty()) {
+                    throw new IllegalStateException("Trailing comma in array");
+                }
                 return list;
             }
             if (ch == -1) {
@@ -267,25 +461,7 @@ public class JsonLenientParser {
     }
 
     public static String parseString(final LenientStream stream) throws IOException {
-        final StringBuilder sb = new StringBuilder();
-        boolean escaped = false;
-        while (true) {
-            final int ch = stream.read();
-            if (ch == -1) {
-                throw new IllegalStateException("Unterminated string");
-            }
-            if (escaped) {
-                sb.append(decodeEscape(ch, stream));
-                escaped = false;
-            } else if (ch == '\\') {
-                escaped = true;
-            } else if (ch == '"') {
-                break;
-            } else {
-                sb.append((char) ch);
-            }
-        }
-        return sb.toString();
+        return stream.string();
     }
 
     public static char decodeEscape(final int esc, final LenientStream stream) throws IOException {
@@ -314,25 +490,41 @@ public class JsonLenientParser {
     }
 
     public static Object parsePrimitive(final LenientStream stream, final char first) throws IOException {
-        final StringBuilder token = new StringBuilder();
-        token.append(first);
-        while (true) {
-            final int ch = stream.read();
-            if (ch == -1 || ch == ',' || ch == '}' || ch == ']' || Character.isWhitespace(ch)) {
-                if (ch != -1) {
-                    stream.unread(ch);
-                }
-                break;
+        final int length = stream.token(first);
+        final char[] token = stream.token;
+        if (first == '-' || (first >= '0' && first <= '9')) {
+            final boolean exact = stream.options().exact();
+            final Number number = NumberParser.numberOf(token, 0, length, exact);
+            if (number != null) {
+                return stream.canonical(number);
+            } else if (exact && NumberParser.numberOf(token, 0, length, false) != null) {
+                // exact mode never falls back to an infinite or zero Double
+                throw new IllegalStateException("Number exceeds the BigDecimal range [" + new String(token, 0, length) + "]");
             }
-            token.append((char) ch);
+        } else if (isToken(token, length, "true")) {
+            return true;
+        } else if (isToken(token, length, "false")) {
+            return false;
+        } else if (isToken(token, length, "null")) {
+            return null;
         }
-        final String value = token.toString();
-        return switch (value) {
-            case "true" -> true;
-            case "false" -> false;
-            case "null" -> null;
-            default -> convertToPrimitive(value);
-        };
+        if (stream.options().strict()) {
+            throw new IllegalStateException("Unquoted value [" + new String(token, 0, length) + "]");
+        }
+        // lenient leftovers like 1.5f, +1 or unquoted text
+        return stream.canonical(convertToPrimitive(new String(token, 0, length)));
+    }
+
+    private static boolean isToken(final char[] token, final int length, final String expected) {
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (token[i] != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static Object convertToPrimitive(final String value) {
@@ -343,9 +535,9 @@ public class JsonLenientParser {
         } else {
             final Object result;
             if (value.contains(".") || value.contains("e") || value.contains("E")) {
-                result = convertObj(value, Double.class);
+                result = NumberParser.doubleOf(value);
             } else {
-                result = convertObj(value, Long.class);
+                result = NumberParser.longOf(value);
             }
             return result == null ? unescapeJson(value) : result;
         }
@@ -365,23 +557,77 @@ public class JsonLenientParser {
         private static final int PUSHBACK_SIZE = 16;
         private final PushbackReader reader;
         private final StringBuilder raw;
+        private final Options options;
         private final int rawLimit;
+        private long consumed;
+        private final CanonicalCache<String> strings;
+        private final CanonicalCache<Long> longs;
+        private final CanonicalCache<Double> doubles;
+        // reused buffer of the current unquoted token, see #token(char)
+        char[] token = new char[32];
 
         public LenientStream(final Reader reader, final int rawLimit) {
-            this.reader = new PushbackReader(reader, PUSHBACK_SIZE);
-            this.rawLimit = rawLimit;
-            this.raw = new StringBuilder(Math.min(rawLimit, 1024));
+            this(reader, Options.LENIENT.withRawLimit(rawLimit));
+        }
+
+        /**
+         * Creates a stream with the given options. It returns shared instances for strings, keys and numbers if
+         * the registry of the options has a {@link CanonicalCache} for {@link String}, {@link Long} or {@link Double}.
+         *
+         * @param reader  the JSON source.
+         * @param options the options of the parse.
+         */
+        public LenientStream(final Reader reader, final Options options) {
+            this(new PushbackReader(reader, PUSHBACK_SIZE), options);
+        }
+
+        private LenientStream(final PushbackReader reader, final Options options) {
+            final ConversionRegistry registry = options.registry() == null ? conversionRegistry() : options.registry();
+            this.reader = reader;
+            this.options = options;
+            this.rawLimit = options.captureLimit();
+            this.raw = new StringBuilder(reader == null ? 0 : Math.min(rawLimit, 1024));
+            this.strings = registry.canonicalCacheOf(String.class);
+            this.longs = registry.canonicalCacheOf(Long.class);
+            this.doubles = registry.canonicalCacheOf(Double.class);
+        }
+
+        public Options options() {
+            return options;
+        }
+
+        public String text(final CharSequence chars) {
+            return strings == null ? chars.toString() : strings.canonical(chars);
+        }
+
+        String text(final CharSequence chars, final int start, final int end) {
+            return strings == null ? chars.subSequence(start, end).toString() : strings.canonical(CharBuffer.wrap(chars, start, end));
+        }
+
+        public Object canonical(final Object value) {
+            if (value instanceof final Long number && longs != null) {
+                return longs.canonical(number);
+            } else if (value instanceof final Double number && doubles != null) {
+                return doubles.canonical(number);
+            } else if (value instanceof final String text && strings != null) {
+                return strings.canonical(text);
+            }
+            return value;
         }
 
         public int read() throws IOException {
             final int ch = reader.read();
-            appendRaw(ch);
+            // re-reads of unread chars are not appended twice
+            if (ch != -1 && consumed++ < rawLimit && raw.length() < consumed) {
+                raw.append((char) ch);
+            }
             return ch;
         }
 
         public void unread(final int ch) throws IOException {
             if (ch != -1) {
                 reader.unread(ch);
+                consumed--;
             }
         }
 
@@ -394,13 +640,386 @@ public class JsonLenientParser {
         }
 
         public String rawText() {
-            return raw.toString();
+            return raw.substring(0, (int) Math.max(0, Math.min(raw.length(), consumed)));
         }
 
-        private void appendRaw(final int ch) {
-            if (ch != -1 && raw.length() < rawLimit) {
-                raw.append((char) ch);
+        public void close() {
+            closeQuietly(reader);
+        }
+
+        /**
+         * Reads an unquoted token like a number or keyword into {@link #token}.
+         *
+         * @param first the already read first char of the token.
+         * @return the length of the token.
+         */
+        int token(final char first) throws IOException {
+            int length = 0;
+            int ch = first;
+            do {
+                if (length == token.length) {
+                    token = Arrays.copyOf(token, length * 2);
+                }
+                token[length++] = (char) ch;
+                ch = read();
+            } while (ch != -1 && ch != ',' && ch != '}' && ch != ']' && !Character.isWhitespace(ch));
+            unread(ch);
+            return length;
+        }
+
+        String string() throws IOException {
+            return string(new StringBuilder());
+        }
+
+        String string(final StringBuilder sb) throws IOException {
+            boolean escaped = false;
+            while (true) {
+                final int ch = read();
+                if (ch == -1) {
+                    throw new IllegalStateException("Unterminated string");
+                }
+                if (escaped) {
+                    sb.append(decodeEscape(ch, this));
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == '"') {
+                    return text(sb);
+                } else {
+                    sb.append((char) ch);
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link LenientStream} indexing straight into a {@link CharSequence}, e.g. a {@link String} or a {@link CharBuffer}
+     * wrapping a {@code char[]}, without copying or re-encoding the text. Strings without escapes are taken as one
+     * sub sequence. The text must not change while it is parsed.
+     */
+    public static final class CharStream extends LenientStream {
+        private final CharSequence chars;
+        private final int length;
+        private final int rawLimit;
+        private int pos;
+
+        /**
+         * Creates a stream over the given text.
+         *
+         * @param chars   the JSON text.
+         * @param options the options of the parse.
+         */
+        public CharStream(final CharSequence chars, final Options options) {
+            super((PushbackReader) null, options);
+            this.chars = chars;
+            this.length = chars.length();
+            this.rawLimit = options.captureLimit();
+        }
+
+        @Override
+        public int read() {
+            return pos < length ? chars.charAt(pos++) : -1;
+        }
+
+        @Override
+        public void unread(final int ch) {
+            // the parser only unreads the char it just read
+            if (ch != -1) {
+                pos--;
+            }
+        }
+
+        @Override
+        public int nextNonWhitespace() {
+            while (pos < length) {
+                final char ch = chars.charAt(pos++);
+                if (!Character.isWhitespace(ch)) {
+                    return ch;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String rawText() {
+            return chars.subSequence(0, Math.min(rawLimit, pos)).toString();
+        }
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        @Override
+        String string() throws IOException {
+            final int start = pos;
+            for (; pos < length; pos++) {
+                final char ch = chars.charAt(pos);
+                if (ch == '"') {
+                    final String result = text(chars, start, pos);
+                    pos++;
+                    return result;
+                } else if (ch == '\\') {
+                    return string(new StringBuilder(pos - start + 16).append(chars, start, pos));
+                }
+            }
+            throw new IllegalStateException("Unterminated string");
+        }
+    }
+
+    /**
+     * {@link LenientStream} reading UTF-8 encoded JSON straight from bytes, with its own buffer and cursor instead of
+     * a {@link Reader} chain. Structural characters, numbers and literals are read byte by byte without decoding,
+     * strings are scanned to their closing quote and decoded at once. Only escapes and non ASCII characters outside
+     * of strings are decoded char by char. The produced trees are the same as for the {@link Reader} based stream.
+     * <p>
+     * Files are mapped into memory instead of being read, so the tokenizer reads the page cache directly.
+     * Files larger than {@link #MAP_SIZE} are remapped window by window as the cursor moves on.
+     * </p>
+     */
+    public static final class Utf8Stream extends LenientStream {
+        /**
+         * Maximum size of a mapped window of a file.
+         */
+        public static final int MAP_SIZE = 1 << 30;
+        private static final int BUFFER_SIZE = 8192;
+        private static final char REPLACEMENT = '\uFFFD';
+        private final InputStream input;
+        private final FileChannel channel;
+        private final long channelSize;
+        private final long origin;
+        private final int mapSize;
+        private final byte[] raw;
+        private final char[] pushback = new char[LenientStream.PUSHBACK_SIZE];
+        private ByteBuffer buffer;
+        private long offset;
+        private int pos;
+        private int end;
+        private int rawLength;
+        private int pushed;
+        private int pushedBytes;
+        private int pendingLow = -1;
+
+        /**
+         * Creates a stream over the given UTF-8 encoded input.
+         *
+         * @param input   the JSON source, read in chunks of {@value #BUFFER_SIZE} bytes.
+         * @param options the options of the parse, the raw limit counts bytes.
+         */
+        public Utf8Stream(final InputStream input, final Options options) {
+            this(input, null, 0, 0, BUFFER_SIZE, options);
+        }
+
+        /**
+         * Creates a stream over the given UTF-8 encoded file, mapped into memory in windows of {@value #MAP_SIZE} bytes.
+         *
+         * @param channel  the file, closed by {@link #close()}.
+         * @param position the offset of the JSON in the file.
+         * @param options  the options of the parse, the raw limit counts bytes.
+         * @throws IOException if the size of the file can't be read.
+         */
+        public Utf8Stream(final FileChannel channel, final long position, final Options options) throws IOException {
+            this(channel, position, MAP_SIZE, options);
+        }
+
+        Utf8Stream(final FileChannel channel, final long position, final int mapSize, final Options options) throws IOException {
+            this(null, channel, channel.size(), position, mapSize, options);
+        }
+
+        private Utf8Stream(final InputStream input, final FileChannel channel, final long channelSize, final long position, final int size, final Options options) {
+            super((PushbackReader) null, options);
+            this.input = input;
+            this.channel = channel;
+            this.channelSize = channelSize;
+            this.origin = position;
+            this.offset = position;
+            this.mapSize = size;
+            this.buffer = channel == null ? ByteBuffer.allocate(size) : ByteBuffer.allocate(0);
+            this.raw = new byte[options.captureLimit()];
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (pushed > 0) {
+                final char ch = pushback[--pushed];
+                pushedBytes -= utf8Length(ch);
+                return ch;
+            }
+            if (pendingLow != -1) {
+                final int low = pendingLow;
+                pendingLow = -1;
+                return low;
+            }
+            if (pos == end && !fill(pos)) {
+                return -1;
+            }
+            final byte b = buffer.get(pos++);
+            return b >= 0 ? b : decode(b);
+        }
+
+        @Override
+        public void unread(final int ch) {
+            if (ch != -1) {
+                if (pushed == pushback.length) {
+                    throw new IllegalStateException("Pushback buffer overflow");
+                }
+                pushback[pushed++] = (char) ch;
+                pushedBytes += utf8Length((char) ch);
+            }
+        }
+
+        @Override
+        public int nextNonWhitespace() throws IOException {
+            while (pushed == 0 && pendingLow == -1 && (pos < end || fill(pos))) {
+                final byte b = buffer.get(pos);
+                if (b < 0) {
+                    break;
+                }
+                pos++;
+                if (!Character.isWhitespace(b)) {
+                    return b;
+                }
+            }
+            return super.nextNonWhitespace();
+        }
+
+        @Override
+        public String rawText() {
+            final long length = Math.min(rawLength, offset + pos - pushedBytes - origin);
+            return new String(raw, 0, (int) Math.max(0, length), UTF_8);
+        }
+
+        @Override
+        public void close() {
+            closeQuietly(input);
+            closeQuietly(channel);
+        }
+
+        @Override
+        String string() throws IOException {
+            if (pushed > 0 || pendingLow != -1) {
+                return super.string();
+            }
+            int start = pos;
+            while (true) {
+                for (; pos < end; pos++) {
+                    final byte b = buffer.get(pos);
+                    if (b == '"') {
+                        final String result = stringOf(start, pos - start);
+                        pos++;
+                        return text(result);
+                    } else if (b == '\\') {
+                        return string(new StringBuilder(pos - start + 16).append(stringOf(start, pos - start)));
+                    }
+                }
+                // keep the string start while loading the next chunk
+                if (!fill(start)) {
+                    throw new IllegalStateException("Unterminated string");
+                }
+                start = 0;
+            }
+        }
+
+        private String stringOf(final int start, final int length) {
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + start, length, UTF_8);
+            }
+            final byte[] bytes = new byte[length];
+            buffer.get(start, bytes);
+            return new String(bytes, UTF_8);
+        }
+
+        private int decode(final byte lead) throws IOException {
+            final int count;
+            int codePoint;
+            if ((lead & 0xE0) == 0xC0) {
+                count = 1;
+                codePoint = lead & 0x1F;
+            } else if ((lead & 0xF0) == 0xE0) {
+                count = 2;
+                codePoint = lead & 0x0F;
+            } else if ((lead & 0xF8) == 0xF0) {
+                count = 3;
+                codePoint = lead & 0x07;
+            } else {
+                return REPLACEMENT;
+            }
+            for (int i = 0; i < count; i++) {
+                if (pos == end && !fill(pos)) {
+                    return REPLACEMENT;
+                }
+                final byte next = buffer.get(pos);
+                if ((next & 0xC0) != 0x80) {
+                    return REPLACEMENT;
+                }
+                pos++;
+                codePoint = (codePoint << 6) | (next & 0x3F);
+            }
+            if (codePoint > Character.MAX_CODE_POINT) {
+                return REPLACEMENT;
+            } else if (codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                pendingLow = Character.lowSurrogate(codePoint);
+                return Character.highSurrogate(codePoint);
+            }
+            return codePoint;
+        }
+
+        /**
+         * Loads the next chunk, moving the bytes from {@code keep} on to the start of the buffer.
+         * The buffer grows if all of its bytes are kept.
+         */
+        private boolean fill(final int keep) throws IOException {
+            final int kept = end - keep;
+            final int read = channel == null ? read(keep, kept) : remap(keep, kept);
+            if (read <= 0) {
+                return false;
+            }
+            if (rawLength < raw.length) {
+                final int length = Math.min(read, raw.length - rawLength);
+                buffer.get(kept, raw, rawLength, length);
+                rawLength += length;
+            }
+            end = kept + read;
+            return true;
+        }
+
+        private int read(final int keep, final int kept) throws IOException {
+            byte[] bytes = buffer.array();
+            if (keep > 0) {
+                System.arraycopy(bytes, keep, bytes, 0, kept);
+            } else if (kept == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                buffer = ByteBuffer.wrap(bytes);
+            }
+            shift(keep);
+            return input.read(bytes, kept, bytes.length - kept);
+        }
+
+        private int remap(final int keep, final int kept) throws IOException {
+            final long start = offset + keep;
+            final long length = Math.min(channelSize - start, Math.min(Integer.MAX_VALUE - 8L, Math.max(mapSize, kept * 2L)));
+            if (length <= kept) {
+                if (start + kept < channelSize) {
+                    throw new IllegalStateException("JSON token exceeds the maximum mapped size");
+                }
+                return -1;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            shift(keep);
+            return (int) (length - kept);
+        }
+
+        private void shift(final int keep) {
+            offset += keep;
+            pos -= keep;
+            end -= keep;
+        }
+
+        private static int utf8Length(final char ch) {
+            if (ch < 0x80) {
+                return 1;
             }
+            return ch < 0x800 || Character.isSurrogate(ch) ? 2 : 3;
         }
     }
 }
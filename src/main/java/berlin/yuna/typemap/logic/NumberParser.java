@@ -0,0 +1,614 @@
+package berlin.yuna.typemap.logic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Parses numbers directly from a {@link CharSequence} without creating wrapper objects or substrings.
+ * The input is validated by hand before it is handed to any JDK parser, so invalid input never
+ * throws (and never fills a stack trace) but returns the given fallback or {@code null}.
+ */
+@SuppressWarnings("java:S3776")
+public class NumberParser {
+
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    // extends the cache of Long#valueOf to the ids, counts and sizes common in JSON
+    private static final int SMALL_LONG_MIN = -128;
+    private static final Long[] SMALL_LONGS = new Long[1024 - SMALL_LONG_MIN];
+    private static final int MAX_EXPONENT = 99_999;
+
+    static {
+        for (int i = 0; i < SMALL_LONGS.length; i++) {
+            SMALL_LONGS[i] = (long) i + SMALL_LONG_MIN;
+        }
+    }
+
+    /**
+     * Parses a decimal {@link Integer} like {@link Integer#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null}, invalid or out of range.
+     */
+    public static Integer integerOf(final CharSequence value) {
+        final long result = value == null ? INVALID : scanLong(value, 0, value.length(), Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return result == INVALID ? null : (int) result;
+    }
+
+    /**
+     * Parses a decimal {@link Long} like {@link Long#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null}, invalid or out of range.
+     */
+    public static Long longOf(final CharSequence value) {
+        if (value == null) {
+            return null;
+        }
+        final long result = scanLong(value, 0, value.length(), Long.MIN_VALUE, Long.MAX_VALUE);
+        return result != INVALID || isMinLong(value, 0, value.length()) ? result : null;
+    }
+
+    /**
+     * Parses a decimal {@link Short} like {@link Short#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null}, invalid or out of range.
+     */
+    public static Short shortOf(final CharSequence value) {
+        final long result = value == null ? INVALID : scanLong(value, 0, value.length(), Short.MIN_VALUE, Short.MAX_VALUE);
+        return result == INVALID ? null : (short) result;
+    }
+
+    /**
+     * Parses a decimal {@link Byte} like {@link Byte#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null}, invalid or out of range.
+     */
+    public static Byte byteOf(final CharSequence value) {
+        final long result = value == null ? INVALID : scanLong(value, 0, value.length(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+        return result == INVALID ? null : (byte) result;
+    }
+
+    /**
+     * Parses a {@link Double} like {@link Double#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null} or invalid.
+     */
+    public static Double doubleOf(final CharSequence value) {
+        if (value == null || value.length() == 0) {
+            return null;
+        }
+        final double fast = fastDouble(value, 0, value.length());
+        if (!Double.isNaN(fast)) {
+            return fast;
+        }
+        return isDouble(value, 0, value.length()) ? Double.valueOf(value.toString()) : null;
+    }
+
+    /**
+     * Parses a {@link Float} like {@link Float#valueOf(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null} or invalid.
+     */
+    public static Float floatOf(final CharSequence value) {
+        return value != null && isDouble(value, 0, value.length()) ? Float.valueOf(value.toString()) : null;
+    }
+
+    /**
+     * Parses a {@link BigDecimal} like {@link BigDecimal#BigDecimal(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null} or invalid.
+     */
+    public static BigDecimal bigDecimalOf(final CharSequence value) {
+        return value != null && isBigDecimal(value, 0, value.length()) ? new BigDecimal(value.toString()) : null;
+    }
+
+    /**
+     * Checks the grammar of {@link #bigDecimalOf(CharSequence)} without parsing the value.
+     *
+     * @param value the characters to check.
+     * @return {@code true} if {@link #bigDecimalOf(CharSequence)} would return a value.
+     */
+    public static boolean isBigDecimal(final CharSequence value) {
+        return value != null && isBigDecimal(value, 0, value.length());
+    }
+
+    /**
+     * Checks if the value is a {@link BigDecimal} with a non-zero fraction, e.g. {@code "1.5"} or {@code "15e-1"}
+     * but not {@code "1.0"} or {@code "0.5e1"}, without parsing the value.
+     *
+     * @param value the characters to check.
+     * @return {@code true} if the value is valid and not an integer.
+     */
+    public static boolean hasFraction(final CharSequence value) {
+        if (!isBigDecimal(value)) {
+            return false;
+        }
+        final int to = value.length();
+        int i = skipSign(value, 0, to);
+        long fraction = 0;
+        int trailingZeros = 0;
+        boolean nonZero = false;
+        boolean dot = false;
+        for (; i < to; i++) {
+            final int digit = Character.digit(value.charAt(i), 10);
+            if (digit >= 0) {
+                fraction += dot ? 1 : 0;
+                trailingZeros = digit == 0 ? trailingZeros + 1 : 0;
+                nonZero |= digit != 0;
+            } else if (value.charAt(i) == '.') {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        final long exponent = i < to ? scanLong(value, i + 1, to, Integer.MIN_VALUE, Integer.MAX_VALUE) : 0;
+        return nonZero && fraction - exponent - trailingZeros > 0;
+    }
+
+    /**
+     * Parses a decimal {@link BigInteger} like {@link BigInteger#BigInteger(String)}.
+     *
+     * @param value the characters to parse.
+     * @return the parsed value or {@code null} if the input is {@code null} or invalid.
+     */
+    public static BigInteger bigIntegerOf(final CharSequence value) {
+        return value != null && isBigInteger(value, 0, value.length()) ? new BigInteger(value.toString()) : null;
+    }
+
+    /**
+     * Parses a decimal {@code int} with the same grammar as {@link Integer#parseInt(String)}.
+     *
+     * @param value    the characters to parse.
+     * @param fallback the value returned if the input is {@code null}, invalid or out of range.
+     * @return the parsed value or the fallback.
+     */
+    public static int parseInt(final CharSequence value, final int fallback) {
+        return value == null ? fallback : parseInt(value, 0, value.length(), fallback);
+    }
+
+    /**
+     * Parses a decimal {@code int} from the range {@code [from, to)} of the given characters.
+     *
+     * @param value    the characters to parse.
+     * @param from     the start index, inclusive.
+     * @param to       the end index, exclusive.
+     * @param fallback the value returned if the range is invalid or out of range.
+     * @return the parsed value or the fallback.
+     */
+    public static int parseInt(final CharSequence value, final int from, final int to, final int fallback) {
+        final long result = scanLong(value, from, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return result == INVALID ? fallback : (int) result;
+    }
+
+    /**
+     * Parses a decimal {@code long} with the same grammar as {@link Long#parseLong(String)}.
+     *
+     * @param value    the characters to parse.
+     * @param fallback the value returned if the input is {@code null}, invalid or out of range.
+     * @return the parsed value or the fallback.
+     */
+    public static long parseLong(final CharSequence value, final long fallback) {
+        return value == null ? fallback : parseLong(value, 0, value.length(), fallback);
+    }
+
+    /**
+     * Parses a decimal {@code long} from the range {@code [from, to)} of the given characters.
+     *
+     * @param value    the characters to parse.
+     * @param from     the start index, inclusive.
+     * @param to       the end index, exclusive.
+     * @param fallback the value returned if the range is invalid or out of range.
+     * @return the parsed value or the fallback.
+     */
+    public static long parseLong(final CharSequence value, final int from, final int to, final long fallback) {
+        final long result = scanLong(value, from, to, Long.MIN_VALUE, Long.MAX_VALUE);
+        // Long.MIN_VALUE doubles as marker for invalid input
+        return result != INVALID || isMinLong(value, from, to) ? result : fallback;
+    }
+
+    /**
+     * Parses a {@code double} with the same grammar as {@link Double#parseDouble(String)}.
+     * Plain decimals with up to {@value #MAX_EXACT_DIGITS} significant digits are computed exactly
+     * without allocation; anything else is validated and delegated to {@link Double#parseDouble(String)}.
+     *
+     * @param value    the characters to parse.
+     * @param fallback the value returned if the input is {@code null} or invalid.
+     * @return the parsed value or the fallback.
+     */
+    public static double parseDouble(final CharSequence value, final double fallback) {
+        return value == null ? fallback : parseDouble(value, 0, value.length(), fallback);
+    }
+
+    /**
+     * Parses a {@code double} from the range {@code [from, to)} of the given characters.
+     *
+     * @param value    the characters to parse.
+     * @param from     the start index, inclusive.
+     * @param to       the end index, exclusive.
+     * @param fallback the value returned if the range is invalid.
+     * @return the parsed value or the fallback.
+     */
+    public static double parseDouble(final CharSequence value, final int from, final int to, final double fallback) {
+        if (value == null || from < 0 || to > value.length() || from >= to) {
+            return fallback;
+        }
+        final double fast = fastDouble(value, from, to);
+        if (!Double.isNaN(fast)) {
+            return fast;
+        }
+        return isDouble(value, from, to) ? Double.parseDouble(value.subSequence(from, to).toString()) : fallback;
+    }
+
+    /**
+     * Parses a JSON number like {@code -12.5e3} from the range {@code [from, to)} of the given characters in a
+     * single pass. Integers become a {@link Long}, small ones shared instances, decimals a {@link Double}, or with
+     * {@code exact} a {@link BigDecimal} which is also used for integers beyond the {@code long} range.
+     *
+     * @param value the characters to parse.
+     * @param from  the start index, inclusive.
+     * @param to    the end index, exclusive.
+     * @param exact {@code true} to parse decimals as {@link BigDecimal}.
+     * @return the number or {@code null} if the range is no JSON number, unless {@code exact} an integer out of
+     * range or with {@code exact} an exponent beyond the {@link BigDecimal} scale.
+     */
+    public static Number numberOf(final char[] value, final int from, final int to, final boolean exact) {
+        int i = from;
+        final boolean negative = i < to && value[i] == '-';
+        if (negative) {
+            i++;
+        }
+        // accumulate negatively as |Long.MIN_VALUE| > Long.MAX_VALUE
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean overflow = false;
+        boolean decimal = false;
+        final int integerStart = i;
+        for (; i < to; i++) {
+            final char c = value[i];
+            if (c >= '0' && c <= '9') {
+                final int digit = c - '0';
+                if (mantissa < Long.MIN_VALUE / 10 || mantissa * 10 < Long.MIN_VALUE + digit) {
+                    overflow = true;
+                } else {
+                    mantissa = mantissa * 10 - digit;
+                    scale -= decimal ? 1 : 0;
+                }
+                digits += mantissa != 0 ? 1 : 0;
+            } else if (c == '.' && !decimal && i > integerStart && i + 1 < to && value[i + 1] >= '0' && value[i + 1] <= '9') {
+                decimal = true;
+            } else {
+                break;
+            }
+        }
+        if (i == integerStart) {
+            return null;
+        }
+        int exponent = 0;
+        if (i < to && (value[i] == 'e' || value[i] == 'E')) {
+            decimal = true;
+            final boolean negativeExponent = ++i < to && value[i] == '-';
+            if (i < to && (value[i] == '-' || value[i] == '+')) {
+                i++;
+            }
+            final int exponentStart = i;
+            for (; i < to && value[i] >= '0' && value[i] <= '9'; i++) {
+                exponent = Math.min(exponent * 10 + value[i] - '0', MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                return null;
+            }
+            exponent = negativeExponent ? -exponent : exponent;
+        }
+        if (i != to) {
+            return null;
+        } else if (!decimal && !overflow && (negative || mantissa != Long.MIN_VALUE)) {
+            return longOf(negative ? mantissa : -mantissa);
+        } else if (exact) {
+            return exactOf(value, from, to);
+        } else if (!decimal) {
+            return null;
+        }
+        return doubleOf(value, from, to, !overflow && digits <= MAX_EXACT_DIGITS, -mantissa, scale + exponent, negative);
+    }
+
+    private static BigDecimal exactOf(final char[] value, final int from, final int to) {
+        try {
+            return new BigDecimal(value, from, to - from);
+        } catch (final NumberFormatException ignored) {
+            // exponent overflows the int scale
+            return null;
+        }
+    }
+
+    private static Long longOf(final long value) {
+        return value >= SMALL_LONG_MIN && value < SMALL_LONG_MIN + SMALL_LONGS.length ? SMALL_LONGS[(int) (value - SMALL_LONG_MIN)] : Long.valueOf(value);
+    }
+
+    /**
+     * Same exact fast path as {@link #fastDouble(CharSequence, int, int)} for an already scanned mantissa.
+     */
+    private static Double doubleOf(final char[] value, final int from, final int to, final boolean exactMantissa, final long mantissa, final int scale, final boolean negative) {
+        final double result;
+        if (mantissa == 0 && exactMantissa) {
+            result = 0d;
+        } else if (exactMantissa && scale >= 0 && scale < POWERS_OF_TEN.length) {
+            result = mantissa * POWERS_OF_TEN[scale];
+        } else if (exactMantissa && scale < 0 && -scale < POWERS_OF_TEN.length) {
+            result = mantissa / POWERS_OF_TEN[-scale];
+        } else {
+            // the grammar is already validated, so this never throws
+            return Double.parseDouble(new String(value, from, to - from));
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Scans an optionally signed decimal integer within the given bounds.
+     *
+     * @return the value or {@link #INVALID}.
+     */
+    private static long scanLong(final CharSequence value, final int from, final int to, final long min, final long max) {
+        if (value == null || from < 0 || to > value.length() || from >= to) {
+            return INVALID;
+        }
+        int i = from;
+        final char first = value.charAt(i);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            if (++i == to) {
+                return INVALID;
+            }
+        }
+        // Accumulate negatively as |Long.MIN_VALUE| > Long.MAX_VALUE
+        final long limit = negative ? min : -max;
+        final long multmin = limit / 10;
+        long result = 0;
+        for (; i < to; i++) {
+            final int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multmin) {
+                return INVALID;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return INVALID;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    private static boolean isMinLong(final CharSequence value, final int from, final int to) {
+        final String min = String.valueOf(Long.MIN_VALUE);
+        if (value == null || from < 0 || to > value.length() || to - from != min.length() || value.charAt(from) != '-') {
+            return false;
+        }
+        for (int i = 1; i < min.length(); i++) {
+            if (Character.digit(value.charAt(from + i), 10) != min.charAt(i) - '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Exact fast path for plain decimals like {@code -12.5e3}: the mantissa fits into a double
+     * without rounding and the power of ten is exactly representable, so a single multiplication
+     * or division is correctly rounded.
+     *
+     * @return the value or {@link Double#NaN} if the input needs the slow path.
+     */
+    private static double fastDouble(final CharSequence value, final int from, final int to) {
+        int i = from;
+        final char first = value.charAt(i);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean dot = false;
+        boolean any = false;
+        for (; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (mantissa != 0 || c != '0') {
+                    if (++digits > MAX_EXACT_DIGITS) {
+                        return Double.NaN;
+                    }
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (dot) {
+                    scale--;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (!any) {
+            return Double.NaN;
+        }
+        if (i < to) {
+            final char e = value.charAt(i);
+            if (e != 'e' && e != 'E') {
+                return Double.NaN;
+            }
+            final long exponent = scanLong(value, i + 1, to, -999, 999);
+            if (exponent == INVALID || skipExponent(value, i + 1, to) != to) {
+                return Double.NaN;
+            }
+            scale += (int) exponent;
+        }
+        final double result;
+        if (mantissa == 0) {
+            result = 0d;
+        } else if (scale >= 0 && scale < POWERS_OF_TEN.length) {
+            result = mantissa * POWERS_OF_TEN[scale];
+        } else if (scale < 0 && -scale < POWERS_OF_TEN.length) {
+            result = mantissa / POWERS_OF_TEN[-scale];
+        } else {
+            return Double.NaN;
+        }
+        return negative ? -result : result;
+    }
+
+    /**
+     * Validates the grammar of {@link Double#valueOf(String)}: surrounding whitespace, optional sign,
+     * {@code NaN}, {@code Infinity}, decimal and hexadecimal notation and an optional type suffix.
+     */
+    private static boolean isDouble(final CharSequence value, final int start, final int end) {
+        int from = start;
+        int to = end;
+        while (from < to && value.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && value.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        int i = skipSign(value, from, to);
+        if (i >= to) {
+            return false;
+        }
+        final char first = value.charAt(i);
+        if (first == 'N' || first == 'I') {
+            return regionEquals(value, i, to, first == 'N' ? "NaN" : "Infinity");
+        } else if (first == '0' && i + 1 < to && (value.charAt(i + 1) == 'x' || value.charAt(i + 1) == 'X')) {
+            return isHexDouble(value, i + 2, to);
+        }
+        int digits = 0;
+        boolean dot = false;
+        for (; i < to; i++) {
+            final char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i < to && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+            i = skipExponent(value, i + 1, to);
+        }
+        return i == to || (i == to - 1 && isTypeSuffix(value.charAt(i)));
+    }
+
+    private static boolean isHexDouble(final CharSequence value, final int from, final int to) {
+        int i = from;
+        int digits = 0;
+        boolean dot = false;
+        for (; i < to; i++) {
+            final char c = value.charAt(i);
+            if (Character.digit(c, 16) >= 0 && c < 128) {
+                digits++;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        // binary exponent is mandatory
+        if (digits == 0 || i >= to || (value.charAt(i) != 'p' && value.charAt(i) != 'P')) {
+            return false;
+        }
+        i = skipExponent(value, i + 1, to);
+        return i == to || (i == to - 1 && isTypeSuffix(value.charAt(i)));
+    }
+
+    /**
+     * Validates the grammar of {@link BigDecimal#BigDecimal(String)} including the resulting scale range.
+     */
+    private static boolean isBigDecimal(final CharSequence value, final int from, final int to) {
+        int i = skipSign(value, from, to);
+        long fraction = 0;
+        int digits = 0;
+        boolean dot = false;
+        for (; i < to; i++) {
+            final char c = value.charAt(i);
+            if (Character.digit(c, 10) >= 0) {
+                digits++;
+                fraction += dot ? 1 : 0;
+            } else if (c == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        } else if (i == to) {
+            return true;
+        } else if (value.charAt(i) != 'e' && value.charAt(i) != 'E') {
+            return false;
+        }
+        final long exponent = scanLong(value, i + 1, to, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        final long scale = fraction - exponent;
+        return exponent != INVALID && scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE;
+    }
+
+    private static boolean isBigInteger(final CharSequence value, final int from, final int to) {
+        int i = skipSign(value, from, to);
+        if (i >= to) {
+            return false;
+        }
+        for (; i < to; i++) {
+            if (Character.digit(value.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the index after the optionally signed ASCII digits of an exponent or {@code -1} if there are no digits.
+     */
+    private static int skipExponent(final CharSequence value, final int from, final int to) {
+        int i = skipSign(value, from, to);
+        final int digitsStart = i;
+        while (i < to && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+            i++;
+        }
+        return i == digitsStart ? -1 : i;
+    }
+
+    private static int skipSign(final CharSequence value, final int from, final int to) {
+        return from < to && (value.charAt(from) == '-' || value.charAt(from) == '+') ? from + 1 : from;
+    }
+
+    private static boolean isTypeSuffix(final char c) {
+        return c == 'd' || c == 'D' || c == 'f' || c == 'F';
+    }
+
+    private static boolean regionEquals(final CharSequence value, final int from, final int to, final String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (value.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private NumberParser() {
+        // static util class
+    }
+}
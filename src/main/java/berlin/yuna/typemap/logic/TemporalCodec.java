@@ -0,0 +1,485 @@
+package berlin.yuna.typemap.logic;
+
+import berlin.yuna.typemap.config.TypeConversionRegister;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.zone.ZoneRules;
+
+/**
+ * Parses and formats ISO-8601 date times without {@link DateTimeFormatter}.
+ * <p>
+ * Supported input is {@code uuuu-MM-dd} and {@code uuuu-MM-ddTHH:mm[:ss[.S]][Z|+HH:MM]}. Epoch values are
+ * computed directly from the characters, so {@link #epochMillisOf(CharSequence, long)} and
+ * {@link #epochNanosOf(CharSequence, long)} don't allocate for input with offset or in a fixed offset zone.
+ * Input without offset is placed in the {@link #defaultZone()}.
+ * </p>
+ * <p>
+ * The default zone and its rules are resolved once from {@link ZoneId#systemDefault()} and cached.
+ * Changes via {@link java.util.TimeZone#setDefault(java.util.TimeZone)} or the {@code user.timezone}
+ * property only apply after {@link #refreshDefaultZone()}.
+ * </p>
+ */
+@SuppressWarnings("java:S3776")
+public class TemporalCodec {
+
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final int NO_OFFSET = Integer.MIN_VALUE;
+    private static final int BAD_OFFSET = Integer.MAX_VALUE;
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final long DAYS_0000_TO_1970 = 719528L;
+    private static final int[] NANO_SCALE = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private static volatile DefaultZone cachedZone = DefaultZone.resolve();
+
+    /**
+     * Returns the cached system default zone, see {@link ZoneId#systemDefault()} and {@link #refreshDefaultZone()}.
+     *
+     * @return the default zone.
+     */
+    public static ZoneId defaultZone() {
+        return zone().id();
+    }
+
+    /**
+     * Returns the system clock in the cached default zone. The zone is resolved once, so {@link Clock#getZone()}
+     * doesn't look it up, and {@link #refreshDefaultZone()} replaces the clock.
+     *
+     * @return the default clock.
+     */
+    public static Clock defaultClock() {
+        return zone().clock();
+    }
+
+    /**
+     * Returns the cached rules of the system default zone.
+     *
+     * @return the default zone rules.
+     */
+    public static ZoneRules defaultRules() {
+        return zone().rules();
+    }
+
+    /**
+     * Resolves the system default zone and its rules again. Call this after changing the default zone,
+     * e.g. via {@link java.util.TimeZone#setDefault(java.util.TimeZone)}, as it is not looked up per conversion.
+     * The global {@link TypeConversionRegister#conversionRegistry()} is replaced with a snapshot using the new
+     * {@link #defaultClock()}, unless it was given a different clock.
+     *
+     * @return the new default zone.
+     */
+    public static ZoneId refreshDefaultZone() {
+        final Clock previous = cachedZone.clock();
+        final DefaultZone result = DefaultZone.resolve();
+        cachedZone = result;
+        TypeConversionRegister.updateConversionRegistry(registry -> registry.clock() == previous ? registry.withClock(result.clock()) : registry);
+        return result.id();
+    }
+
+    /**
+     * Parses an ISO-8601 date time to epoch milliseconds.
+     *
+     * @param value    the characters to parse.
+     * @param fallback the value to return if the input is not supported.
+     * @return the epoch milliseconds or the fallback.
+     */
+    public static long epochMillisOf(final CharSequence value, final long fallback) {
+        final int end = timeEnd(value);
+        final long seconds = end < 0 ? INVALID : epochSecondOf(value, end);
+        return seconds == INVALID ? fallback : seconds * 1000 + nanoOf(value, end) / 1_000_000;
+    }
+
+    /**
+     * Parses an ISO-8601 date time to epoch nanoseconds.
+     *
+     * @param value    the characters to parse.
+     * @param fallback the value to return if the input is not supported or out of the {@code long} range.
+     * @return the epoch nanoseconds or the fallback.
+     */
+    public static long epochNanosOf(final CharSequence value, final long fallback) {
+        final int end = timeEnd(value);
+        final long seconds = end < 0 ? INVALID : epochSecondOf(value, end);
+        if (seconds == INVALID) {
+            return fallback;
+        }
+        try {
+            return Math.addExact(Math.multiplyExact(seconds, 1_000_000_000L), nanoOf(value, end));
+        } catch (final ArithmeticException outOfRange) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Parses an ISO-8601 date time to an {@link Instant}.
+     *
+     * @param value the characters to parse.
+     * @return the instant or {@code null} if the input is not supported.
+     */
+    public static Instant instantOf(final CharSequence value) {
+        final int end = timeEnd(value);
+        final long seconds = end < 0 ? INVALID : epochSecondOf(value, end);
+        return seconds == INVALID ? null : Instant.ofEpochSecond(seconds, nanoOf(value, end));
+    }
+
+    /**
+     * Parses an ISO-8601 date time to a {@link LocalDateTime}, an offset is ignored.
+     *
+     * @param value the characters to parse.
+     * @return the local date time or {@code null} if the input is not supported.
+     */
+    public static LocalDateTime localDateTimeOf(final CharSequence value) {
+        final int end = timeEnd(value);
+        final long local = end < 0 || offsetOf(value, end) == BAD_OFFSET ? INVALID : localSecondOf(value, end);
+        return local == INVALID ? null : LocalDateTime.ofEpochSecond(local, nanoOf(value, end), ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses an ISO-8601 date time to an {@link OffsetDateTime}, input without offset gets the offset of the {@link #defaultZone()}.
+     *
+     * @param value the characters to parse.
+     * @return the offset date time or {@code null} if the input is not supported.
+     */
+    public static OffsetDateTime offsetDateTimeOf(final CharSequence value) {
+        final ZonedDateTime result = zonedDateTimeOf(value);
+        return result == null ? null : result.toOffsetDateTime();
+    }
+
+    /**
+     * Parses an ISO-8601 date time to a {@link ZonedDateTime}, input without offset gets the {@link #defaultZone()}.
+     *
+     * @param value the characters to parse.
+     * @return the zoned date time or {@code null} if the input is not supported.
+     */
+    public static ZonedDateTime zonedDateTimeOf(final CharSequence value) {
+        return zonedDateTimeOf(value, defaultZone());
+    }
+
+    /**
+     * Parses an ISO-8601 date time to a {@link ZonedDateTime}, input without offset gets the given zone.
+     *
+     * @param value the characters to parse.
+     * @param zone  the zone of input without offset.
+     * @return the zoned date time or {@code null} if the input is not supported.
+     */
+    public static ZonedDateTime zonedDateTimeOf(final CharSequence value, final ZoneId zone) {
+        final int end = timeEnd(value);
+        final int offset = end < 0 ? BAD_OFFSET : offsetOf(value, end);
+        final long local = offset == BAD_OFFSET ? INVALID : localSecondOf(value, end);
+        if (local == INVALID) {
+            return null;
+        }
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(local, nanoOf(value, end), ZoneOffset.UTC);
+        return ZonedDateTime.of(dateTime, offset == NO_OFFSET ? zone : ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Converts epoch milliseconds to a {@link LocalDateTime} in the {@link #defaultZone()}.
+     *
+     * @param epochMillis the epoch milliseconds.
+     * @return the local date time.
+     */
+    public static LocalDateTime localDateTimeOf(final long epochMillis) {
+        final DefaultZone zone = zone();
+        return localDateTimeOf(epochMillis, zone.fixedOffset() != null ? zone.fixedOffset() : zone.id());
+    }
+
+    /**
+     * Converts epoch milliseconds to a {@link LocalDateTime} in the given zone.
+     *
+     * @param epochMillis the epoch milliseconds.
+     * @param zone        the zone.
+     * @return the local date time.
+     */
+    public static LocalDateTime localDateTimeOf(final long epochMillis, final ZoneId zone) {
+        final long seconds = Math.floorDiv(epochMillis, 1000L);
+        final int nanos = (int) Math.floorMod(epochMillis, 1000L) * 1_000_000;
+        final ZoneOffset offset = zone instanceof final ZoneOffset fixed ? fixed : zone.getRules().getOffset(Instant.ofEpochSecond(seconds));
+        return LocalDateTime.ofEpochSecond(seconds, nanos, offset);
+    }
+
+    /**
+     * Converts epoch milliseconds to a {@link ZonedDateTime} in the {@link #defaultZone()}.
+     *
+     * @param epochMillis the epoch milliseconds.
+     * @return the zoned date time.
+     */
+    public static ZonedDateTime zonedDateTimeOf(final long epochMillis) {
+        return zonedDateTimeOf(epochMillis, defaultZone());
+    }
+
+    /**
+     * Converts epoch milliseconds to a {@link ZonedDateTime} in the given zone.
+     *
+     * @param epochMillis the epoch milliseconds.
+     * @param zone        the zone.
+     * @return the zoned date time.
+     */
+    public static ZonedDateTime zonedDateTimeOf(final long epochMillis, final ZoneId zone) {
+        return ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+
+    /**
+     * Formats an {@link Instant} like {@link Instant#toString()}.
+     *
+     * @param instant the instant to format.
+     * @return the ISO-8601 string.
+     */
+    public static String stringOf(final Instant instant) {
+        return appendInstant(new StringBuilder(30), instant.getEpochSecond(), instant.getNano()).toString();
+    }
+
+    /**
+     * Formats a {@link LocalDateTime} like {@link LocalDateTime#toString()}.
+     *
+     * @param dateTime the date time to format.
+     * @return the ISO-8601 string.
+     */
+    public static String stringOf(final LocalDateTime dateTime) {
+        final int year = dateTime.getYear();
+        if (year < 0 || year > 9999) {
+            return dateTime.toString();
+        }
+        final StringBuilder result = new StringBuilder(29);
+        appendDate(result, year, dateTime.getMonthValue(), dateTime.getDayOfMonth()).append('T');
+        return appendTime(result, dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), false).toString();
+    }
+
+    /**
+     * Formats an {@link OffsetDateTime} like {@link OffsetDateTime#toString()}.
+     *
+     * @param dateTime the date time to format.
+     * @return the ISO-8601 string.
+     */
+    public static String stringOf(final OffsetDateTime dateTime) {
+        return stringOf(dateTime.toLocalDateTime()) + dateTime.getOffset().getId();
+    }
+
+    /**
+     * Appends an instant in the format of {@link Instant#toString()} e.g. {@code 2024-01-15T10:30:00.123Z}.
+     *
+     * @param target      the builder to append to.
+     * @param epochSecond the epoch seconds.
+     * @param nano        the nano adjustment, from 0 to 999,999,999.
+     * @return the given builder.
+     */
+    public static StringBuilder appendInstant(final StringBuilder target, final long epochSecond, final int nano) {
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        final long date = civilOf(epochDay);
+        final int year = (int) (date / 10000);
+        if (year < 0 || year > 9999) {
+            return target.append(Instant.ofEpochSecond(epochSecond, nano));
+        }
+        appendDate(target, year, (int) (date / 100 % 100), (int) (date % 100)).append('T');
+        return appendTime(target, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nano, true).append('Z');
+    }
+
+    private static StringBuilder appendDate(final StringBuilder target, final int year, final int month, final int day) {
+        appendDigits(target, year, 4).append('-');
+        appendDigits(target, month, 2).append('-');
+        return appendDigits(target, day, 2);
+    }
+
+    private static StringBuilder appendTime(final StringBuilder target, final int hour, final int minute, final int second, final int nano, final boolean seconds) {
+        appendDigits(target, hour, 2).append(':');
+        appendDigits(target, minute, 2);
+        if (seconds || second > 0 || nano > 0) {
+            appendDigits(target.append(':'), second, 2);
+        }
+        if (nano > 0) {
+            target.append('.');
+            if (nano % 1_000_000 == 0) {
+                appendDigits(target, nano / 1_000_000, 3);
+            } else if (nano % 1000 == 0) {
+                appendDigits(target, nano / 1000, 6);
+            } else {
+                appendDigits(target, nano, 9);
+            }
+        }
+        return target;
+    }
+
+    private static StringBuilder appendDigits(final StringBuilder target, final int value, final int width) {
+        for (int scale = NANO_SCALE[width - 1]; scale > 1 && value < scale; scale /= 10) {
+            target.append('0');
+        }
+        return target.append(value);
+    }
+
+    /**
+     * Returns the index after the time part (and fraction) or {@code -1} if the structure doesn't match.
+     */
+    private static int timeEnd(final CharSequence value) {
+        final int length = value == null ? 0 : value.length();
+        if (length < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+            return -1;
+        } else if (length == 10) {
+            return 10;
+        } else if (length < 16 || value.charAt(10) != 'T' || value.charAt(13) != ':') {
+            return -1;
+        }
+        int pos = 16;
+        if (pos < length && value.charAt(pos) == ':') {
+            pos += 3;
+            if (pos > length) {
+                return -1;
+            } else if (pos < length && value.charAt(pos) == '.') {
+                final int start = ++pos;
+                while (pos < length && pos - start < 9 && isDigit(value.charAt(pos))) {
+                    pos++;
+                }
+                return pos == start ? -1 : pos;
+            }
+        }
+        return pos;
+    }
+
+    private static long epochSecondOf(final CharSequence value, final int end) {
+        final int offset = offsetOf(value, end);
+        final long local = offset == BAD_OFFSET ? INVALID : localSecondOf(value, end);
+        if (local == INVALID) {
+            return INVALID;
+        } else if (offset != NO_OFFSET) {
+            return local - offset;
+        }
+        final DefaultZone zone = zone();
+        return zone.fixedOffset() != null
+            ? local - zone.fixedOffset().getTotalSeconds()
+            : ZonedDateTime.of(LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC), zone.id()).toEpochSecond();
+    }
+
+    private static long localSecondOf(final CharSequence value, final int end) {
+        final int year = digitsOf(value, 0, 4);
+        final int month = digitsOf(value, 5, 2);
+        final int day = digitsOf(value, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return INVALID;
+        }
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        if (end > 10) {
+            hour = digitsOf(value, 11, 2);
+            minute = digitsOf(value, 14, 2);
+            second = end > 16 ? digitsOf(value, 17, 2) : 0;
+        }
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+        return epochDayOf(year, month, day) * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    private static int nanoOf(final CharSequence value, final int end) {
+        if (end <= 20 || value.charAt(19) != '.') {
+            return 0;
+        }
+        int result = 0;
+        for (int i = 20; i < end; i++) {
+            result = result * 10 + value.charAt(i) - '0';
+        }
+        return result * NANO_SCALE[9 - (end - 20)];
+    }
+
+    private static int offsetOf(final CharSequence value, final int end) {
+        final int length = value.length();
+        if (end == length) {
+            return NO_OFFSET;
+        } else if (end > 10 && end + 1 == length && value.charAt(end) == 'Z') {
+            return 0;
+        } else if (end > 10 && end + 6 == length && (value.charAt(end) == '+' || value.charAt(end) == '-') && value.charAt(end + 3) == ':') {
+            final int hours = digitsOf(value, end + 1, 2);
+            final int minutes = digitsOf(value, end + 4, 2);
+            if (hours >= 0 && minutes >= 0 && minutes <= 59 && (hours < 18 || hours == 18 && minutes == 0)) {
+                return (value.charAt(end) == '-' ? -1 : 1) * (hours * 3600 + minutes * 60);
+            }
+        }
+        return BAD_OFFSET;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Days since 1970-01-01 of a date from year 0 to 9999, see {@link LocalDate#toEpochDay()}.
+     */
+    private static long epochDayOf(final int year, final int month, final int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367L * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total -= (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Date of the given epoch day packed as {@code yyyyMMdd}, see {@link LocalDate#ofEpochDay(long)}.
+     */
+    private static long civilOf(final long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if (zeroDay < 0) {
+            final long cycles = (zeroDay + 1) / 146097 - 1;
+            adjust = cycles * 400;
+            zeroDay += -cycles * 146097;
+        }
+        long year = (400 * zeroDay + 591) / 146097;
+        long dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        if (dayOfYear < 0) {
+            year--;
+            dayOfYear = zeroDay - (365 * year + year / 4 - year / 100 + year / 400);
+        }
+        year += adjust;
+        final int marchMonth = (int) ((dayOfYear * 5 + 2) / 153);
+        final int month = (marchMonth + 2) % 12 + 1;
+        final int day = (int) (dayOfYear - (marchMonth * 306L + 5) / 10 + 1);
+        year += marchMonth / 10;
+        return year * 10000 + month * 100L + day;
+    }
+
+    private static int digitsOf(final CharSequence value, final int from, final int count) {
+        if (from + count > value.length()) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + c - '0';
+        }
+        return result;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static DefaultZone zone() {
+        return cachedZone;
+    }
+
+    /**
+     * The system default zone with its resolved rules and clock.
+     */
+    private record DefaultZone(ZoneId id, ZoneRules rules, ZoneOffset fixedOffset, Clock clock) {
+        static DefaultZone resolve() {
+            return of(ZoneId.systemDefault());
+        }
+
+        static DefaultZone of(final ZoneId id) {
+            final ZoneRules rules = id.getRules();
+            return new DefaultZone(id, rules, rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null, Clock.system(id));
+        }
+    }
+
+    private TemporalCodec() {
+        // static util class
+    }
+}
@@ -0,0 +1,521 @@
+package berlin.yuna.typemap.logic;
+
+import berlin.yuna.typemap.config.ConversionRegistry;
+import berlin.yuna.typemap.config.TypeConversionRegister;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static berlin.yuna.typemap.config.TypeConversionRegister.DATE_TIME_FORMATTERS;
+
+/**
+ * Parses date and time strings against {@link TypeConversionRegister#DATE_TIME_FORMATTERS}.
+ * <p>
+ * Epoch numbers and plain ISO-8601 strings are parsed by hand, see {@link TemporalCodec}. Any other input is classified once by
+ * the characters it contains (digits, separators, 'T', offset letters, AM/PM text, ...) and only handed
+ * to the formatters which are able to consume these characters, so a string matching a late formatter
+ * doesn't pay for a {@link DateTimeException} of every formatter before it.
+ * The result is the same as trying all formatters in order.
+ * </p>
+ * <p>
+ * Per shape signature (see {@link #signatureOf(CharSequence)}) the parser learns the index of the first
+ * formatter which was able to read the input and starts there next time. Formatters before that index
+ * failed on the structure of the text alone, so skipping them doesn't change the result.
+ * </p>
+ * <p>
+ * Columns of strings are parsed with a single format inferred from a sample of the column,
+ * see {@link #instantsOf(Object, ConversionRegistry)}.
+ * </p>
+ */
+@SuppressWarnings("java:S3776")
+public class TemporalParser {
+
+    // character classes of the input shape
+    private static final int DIGIT = 1;
+    private static final int LETTER_T = 1 << 1;
+    private static final int LETTER_Z = 1 << 2;
+    private static final int LETTER = 1 << 3;
+    private static final int SPACE = 1 << 4;
+    private static final int DASH = 1 << 5;
+    private static final int SLASH = 1 << 6;
+    private static final int COLON = 1 << 7;
+    private static final int DOT = 1 << 8;
+    private static final int PLUS = 1 << 9;
+    private static final int COMMA = 1 << 10;
+    private static final int OTHER = 1 << 11;
+    private static final int LETTERS = LETTER_T | LETTER_Z | LETTER;
+    private static final int ANY = (1 << 12) - 1;
+
+    /**
+     * Maximum number of learned shape signatures, the cache is reset once exceeded.
+     */
+    public static final int MAX_LEARNED_SHAPES = 512;
+    /**
+     * Maximum number of strings of a column used to infer its format, see {@link #formatOf(Object, ConversionRegistry)}.
+     */
+    public static final int COLUMN_SAMPLE_SIZE = 64;
+    private static final int MAX_SIGNATURE_LENGTH = 64;
+    private static final Map<String, Integer> LEARNED_STARTS = new ConcurrentHashMap<>();
+    private static final LongAdder LEARNED_HITS = new LongAdder();
+    private static final LongAdder LEARNED_MISSES = new LongAdder();
+
+    // profiles of DATE_TIME_FORMATTERS by index, recomputed when an entry gets replaced
+    private static volatile Profile[] profiles = new Profile[0];
+
+    /**
+     * Parses the given string to a temporal type. Epoch seconds and milliseconds are converted via
+     * {@link TypeConverter#convertObj(Object, Class)}, everything else is parsed by the first matching
+     * formatter of {@link TypeConversionRegister#DATE_TIME_FORMATTERS} and handed to the converter.
+     * Dates or times without zone are completed with the system default zone and the current date.
+     *
+     * @param <T>       the target type.
+     * @param target    the target class.
+     * @param string    the string to parse.
+     * @param converter the conversion of the parsed temporal to the target type.
+     * @return the converted value or {@code null} if no formatter matches.
+     */
+    public static <T> T temporalOf(final Class<T> target, final String string, final Function<TemporalAccessor, T> converter) {
+        return temporalOf(target, string, converter, TypeConversionRegister.conversionRegistry());
+    }
+
+    /**
+     * Parses the given string to a temporal type like {@link #temporalOf(Class, String, Function)}, using the
+     * conversions, {@link ConversionRegistry#clock()} and {@link ConversionRegistry#zone()} of the given registry.
+     *
+     * @param <T>       the target type.
+     * @param target    the target class.
+     * @param string    the string to parse.
+     * @param converter the conversion of the parsed temporal to the target type.
+     * @param registry  the registry providing the epoch conversions, the clock and the zone.
+     * @return the converted value or {@code null} if no formatter matches.
+     */
+    public static <T> T temporalOf(final Class<T> target, final String string, final Function<TemporalAccessor, T> converter, final ConversionRegistry registry) {
+        if (string == null) {
+            return null;
+        }
+        final Long epoch = NumberParser.longOf(string);
+        if (epoch != null) {
+            return TypeConverter.convertObj(TypeConversionRegister.toTimestampMs(epoch), target, registry);
+        }
+
+        final String input = normalize(string);
+        final ZonedDateTime iso = TemporalCodec.zonedDateTimeOf(input, registry.zone());
+        if (iso != null) {
+            try {
+                return converter.apply(iso);
+            } catch (final DateTimeException ignored) {
+                // extraction failed; let the formatters decide
+            }
+        }
+
+        final int shape = shapeOf(input);
+        final String signature = input.length() > MAX_SIGNATURE_LENGTH ? null : signatureOf(input);
+        final Integer learned = signature == null ? null : LEARNED_STARTS.get(signature);
+        (learned == null ? LEARNED_MISSES : LEARNED_HITS).increment();
+
+        final DateTimeFormatter[] formatters = DATE_TIME_FORMATTERS;
+        int firstReadable = -1;
+        for (int i = learned == null ? 0 : learned; i < formatters.length; i++) {
+            if (profileOf(i, formatters[i]).admits(shape)) {
+                try {
+                    final T result = converter.apply(normalizeTemporal(formatters[i].parse(input), registry.clock()));
+                    learn(signature, learned, firstReadable < 0 ? i : firstReadable);
+                    return result;
+                } catch (final DateTimeParseException e) {
+                    // text could be read but not resolved e.g. day 31 in February
+                    firstReadable = firstReadable < 0 && e.getCause() != null ? i : firstReadable;
+                } catch (final DateTimeException ignored) {
+                    // extraction failed; try next candidate
+                    firstReadable = firstReadable < 0 ? i : firstReadable;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a column of values to instants, see {@link #instantsOf(Object, ConversionRegistry)}.
+     *
+     * @param input the values to convert, a {@link java.util.Collection}, an array or a single value.
+     * @return an array with one entry per input value, {@code null} for not convertible values.
+     */
+    public static Instant[] instantsOf(final Object input) {
+        return instantsOf(input, TypeConversionRegister.conversionRegistry());
+    }
+
+    /**
+     * Converts a column of values to instants. The format of the strings is inferred once from a sample
+     * of the column (see {@link #formatOf(Object, ConversionRegistry)}) and used for every string. Values
+     * the inferred format can't read and all other types fall back to {@link TypeConverter#convertObj(Object, Class, ConversionRegistry)}.
+     * <p>
+     * Ambiguous values are read like the rest of the column e.g. {@code 09/04/2025} is the 9th of April
+     * in a column which also contains {@code 13/04/2025}.
+     * </p>
+     *
+     * @param input    the values to convert, a {@link java.util.Collection}, an array or a single value.
+     * @param registry the registry providing the conversions, the clock and the zone.
+     * @return an array with one entry per input value, {@code null} for not convertible values.
+     */
+    public static Instant[] instantsOf(final Object input, final ConversionRegistry registry) {
+        final List<?> values = TypeConverter.columnOf(input);
+        final DateTimeFormatter format = formatOf(values, registry);
+        final Instant[] result = new Instant[values.size()];
+        int i = 0;
+        for (final Object value : values) {
+            result[i++] = instantOf(value, format, registry);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a column of values to epoch milliseconds, see {@link #epochMillisOf(Object, long, ConversionRegistry)}.
+     *
+     * @param input    the values to convert, a {@link java.util.Collection}, an array or a single value.
+     * @param fallback the value used for {@code null} and not convertible values.
+     * @return an array with one entry per input value.
+     */
+    public static long[] epochMillisOf(final Object input, final long fallback) {
+        return epochMillisOf(input, fallback, TypeConversionRegister.conversionRegistry());
+    }
+
+    /**
+     * Converts a column of values to epoch milliseconds like {@link #instantsOf(Object, ConversionRegistry)}
+     * without keeping the instants.
+     *
+     * @param input    the values to convert, a {@link java.util.Collection}, an array or a single value.
+     * @param fallback the value used for {@code null} and not convertible values.
+     * @param registry the registry providing the conversions, the clock and the zone.
+     * @return an array with one entry per input value.
+     */
+    public static long[] epochMillisOf(final Object input, final long fallback, final ConversionRegistry registry) {
+        final List<?> values = TypeConverter.columnOf(input);
+        final DateTimeFormatter format = formatOf(values, registry);
+        final long[] result = new long[values.size()];
+        int i = 0;
+        for (final Object value : values) {
+            result[i++] = epochMillisOf(instantOf(value, format, registry), fallback);
+        }
+        return result;
+    }
+
+    /**
+     * Infers the format of a column of date strings. Up to {@value #COLUMN_SAMPLE_SIZE} strings, spread over
+     * the column, are tried against every formatter of {@link TypeConversionRegister#DATE_TIME_FORMATTERS}
+     * which admits their shape. The formatter reading most of them wins, on a tie the earlier one.
+     *
+     * @param input    the values to inspect, a {@link java.util.Collection}, an array or a single value.
+     * @param registry the registry providing the clock and the zone.
+     * @return the inferred formatter or {@code null} if the sample is mostly epoch numbers, ISO-8601 or not readable.
+     */
+    public static DateTimeFormatter formatOf(final Object input, final ConversionRegistry registry) {
+        final List<?> values = TypeConverter.columnOf(input);
+        final DateTimeFormatter[] formatters = DATE_TIME_FORMATTERS;
+        final int[] votes = new int[formatters.length];
+        final int step = Math.max(1, (values.size() + COLUMN_SAMPLE_SIZE - 1) / COLUMN_SAMPLE_SIZE);
+        int isoVotes = 0;
+        for (int index = 0; index < values.size(); index += step) {
+            if (values.get(index) instanceof final CharSequence chars && !chars.isEmpty()) {
+                final String string = chars.toString();
+                final String sample = normalize(string);
+                if (NumberParser.longOf(string) != null || TemporalCodec.zonedDateTimeOf(sample, registry.zone()) != null) {
+                    isoVotes++;
+                    continue;
+                }
+                final int shape = shapeOf(sample);
+                for (int i = 0; i < formatters.length; i++) {
+                    if (profileOf(i, formatters[i]).admits(shape) && instantOf(formatters[i], sample, registry.clock()) != null) {
+                        votes[i]++;
+                    }
+                }
+            }
+        }
+        int winner = -1;
+        for (int i = 0; i < votes.length; i++) {
+            winner = votes[i] > isoVotes && (winner < 0 || votes[i] > votes[winner]) ? i : winner;
+        }
+        return winner < 0 ? null : formatters[winner];
+    }
+
+    /**
+     * Returns the shape signature of the given input, digits are replaced by {@code d} and all other
+     * characters are kept e.g. {@code 2024-01-15T10:30:00.123Z} becomes {@code dddd-dd-ddTdd:dd:dd.dddZ}.
+     *
+     * @param value the characters to inspect.
+     * @return the shape signature.
+     */
+    public static String signatureOf(final CharSequence value) {
+        final char[] result = new char[value.length()];
+        for (int i = 0; i < result.length; i++) {
+            final char c = value.charAt(i);
+            result[i] = isDigit(c) ? 'd' : c;
+        }
+        return new String(result);
+    }
+
+    /**
+     * Returns how often a learned formatter index was used since the last {@link #clearLearnedShapes()}.
+     *
+     * @return the number of cache hits.
+     */
+    public static long learnedHits() {
+        return LEARNED_HITS.sum();
+    }
+
+    /**
+     * Returns how often no formatter index was learned for the input shape since the last {@link #clearLearnedShapes()}.
+     *
+     * @return the number of cache misses.
+     */
+    public static long learnedMisses() {
+        return LEARNED_MISSES.sum();
+    }
+
+    /**
+     * Returns the number of currently learned shape signatures, at most {@value #MAX_LEARNED_SHAPES}.
+     *
+     * @return the cache size.
+     */
+    public static int learnedShapes() {
+        return LEARNED_STARTS.size();
+    }
+
+    /**
+     * Forgets all learned formatter indices and resets the hit and miss counters.
+     */
+    public static void clearLearnedShapes() {
+        LEARNED_STARTS.clear();
+        LEARNED_HITS.reset();
+        LEARNED_MISSES.reset();
+    }
+
+    private static Instant instantOf(final Object value, final DateTimeFormatter format, final ConversionRegistry registry) {
+        if (format != null && value instanceof final CharSequence chars) {
+            final Instant result = instantOf(format, normalize(chars.toString()), registry.clock());
+            if (result != null) {
+                return result;
+            }
+        }
+        return TypeConverter.convertObj(value, Instant.class, registry);
+    }
+
+    private static long epochMillisOf(final Instant instant, final long fallback) {
+        try {
+            return instant == null ? fallback : instant.toEpochMilli();
+        } catch (final ArithmeticException outOfRange) {
+            return fallback;
+        }
+    }
+
+    private static Instant instantOf(final DateTimeFormatter formatter, final String input, final Clock clock) {
+        try {
+            return Instant.from(normalizeTemporal(formatter.parse(input), clock));
+        } catch (final DateTimeException ignored) {
+            return null;
+        }
+    }
+
+    private static void learn(final String signature, final Integer learned, final int start) {
+        if (signature != null && learned == null) {
+            if (LEARNED_STARTS.size() >= MAX_LEARNED_SHAPES) {
+                LEARNED_STARTS.clear();
+            }
+            LEARNED_STARTS.put(signature, start);
+        }
+    }
+
+    /**
+     * Collapses whitespace runs to a single space and drops the word "at" between date and time.
+     */
+    private static String normalize(final String value) {
+        String result = value;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (isSpace(c) && (c != ' ' || (i + 1 < value.length() && isSpace(value.charAt(i + 1))))) {
+                result = collapse(value, i);
+                break;
+            }
+        }
+        return result.contains(" at ") ? result.replace(" at ", " ") : result;
+    }
+
+    private static String collapse(final String value, final int from) {
+        final StringBuilder result = new StringBuilder(value.length()).append(value, 0, from);
+        for (int i = from; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!isSpace(c)) {
+                result.append(c);
+            } else if (i == from || !isSpace(value.charAt(i - 1))) {
+                result.append(' ');
+            }
+        }
+        return result.toString();
+    }
+
+    private static int shapeOf(final CharSequence value) {
+        int result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            result |= classOf(value.charAt(i));
+        }
+        return result;
+    }
+
+    private static int classOf(final char c) {
+        return switch (c) {
+            case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> DIGIT;
+            case 'T', 't' -> LETTER_T;
+            case 'Z', 'z' -> LETTER_Z;
+            case ' ' -> SPACE;
+            case '-' -> DASH;
+            case '/' -> SLASH;
+            case ':' -> COLON;
+            case '.' -> DOT;
+            case '+' -> PLUS;
+            case ',' -> COMMA;
+            default -> Character.isLetter(c) ? LETTER : OTHER;
+        };
+    }
+
+    private static Profile profileOf(final int index, final DateTimeFormatter formatter) {
+        Profile[] current = profiles;
+        if (current.length <= index) {
+            current = new Profile[DATE_TIME_FORMATTERS.length];
+            profiles = current;
+        }
+        Profile result = current[index];
+        if (result == null || result.formatter() != formatter) {
+            if (result != null) {
+                // learned indices refer to the replaced formatter
+                LEARNED_STARTS.clear();
+            }
+            result = Profile.of(formatter);
+            current[index] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Character classes a formatter can consume ({@code allowed}) and must see ({@code required}),
+     * derived from the description of its printer parsers. Unknown parsers allow everything.
+     */
+    private record Profile(DateTimeFormatter formatter, int allowed, int required) {
+
+        boolean admits(final int shape) {
+            return (shape & ~allowed) == 0 && (required & ~shape) == 0;
+        }
+
+        static Profile of(final DateTimeFormatter formatter) {
+            final String description = formatter.toString();
+            int allowed = 0;
+            int required = 0;
+            int depth = 0;
+            for (int i = 0; i < description.length(); i++) {
+                final char c = description.charAt(i);
+                if (c == '\'') {
+                    // literal, a doubled quote is an escaped quote
+                    int end = i + 1;
+                    for (; end < description.length(); end++) {
+                        final char literal = description.charAt(end);
+                        if (literal == '\'' && (end + 1 == description.length() || description.charAt(end + 1) != '\'')) {
+                            break;
+                        } else if (literal == '\'') {
+                            allowed |= OTHER;
+                            end++;
+                        } else {
+                            allowed |= classOf(literal);
+                            required |= depth == 0 ? classOf(literal) : 0;
+                        }
+                    }
+                    allowed |= end == i + 1 ? OTHER : 0;
+                    i = end;
+                } else if (c == '[') {
+                    depth++;
+                } else if (c == ']') {
+                    depth--;
+                } else if (Character.isLetter(c)) {
+                    int end = i;
+                    while (end < description.length() && Character.isLetter(description.charAt(end))) {
+                        end++;
+                    }
+                    final String name = description.substring(i, end);
+                    allowed |= acceptedBy(name);
+                    required |= depth == 0 && name.endsWith("Value") ? DIGIT : 0;
+                    i = end < description.length() && description.charAt(end) == '(' ? argumentsEnd(description, end) : end - 1;
+                }
+            }
+            return new Profile(formatter, allowed, required);
+        }
+
+        private static int acceptedBy(final String parser) {
+            return switch (parser) {
+                case "ParseCaseSensitive", "ParseStrict" -> 0;
+                case "Value", "ReducedValue" -> DIGIT | PLUS | DASH;
+                case "Fraction" -> DIGIT | DOT | COMMA;
+                case "Text" -> LETTERS | DOT;
+                case "Offset", "LocalizedOffset" -> DIGIT | PLUS | DASH | COLON | LETTERS;
+                default -> ANY;
+            };
+        }
+
+        private static int argumentsEnd(final String description, final int open) {
+            int depth = 0;
+            boolean quoted = false;
+            for (int i = open; i < description.length(); i++) {
+                final char c = description.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (!quoted && c == '(') {
+                    depth++;
+                } else if (!quoted && c == ')' && --depth == 0) {
+                    return i;
+                }
+            }
+            return description.length();
+        }
+    }
+
+    private static TemporalAccessor normalizeTemporal(final TemporalAccessor ta, final Clock clock) {
+        // Already has an instant or zone/offset -> leave it alone
+        if (ta.isSupported(ChronoField.INSTANT_SECONDS)) return ta;
+        if (ta.query(TemporalQueries.zone()) != null) return ta;               // ZoneId or ZoneOffset present
+        if (ta.isSupported(ChronoField.OFFSET_SECONDS)) return ta;             // offset-only
+
+        final ZoneId zone = clock.getZone();
+
+        final boolean hasDate = ta.isSupported(ChronoField.EPOCH_DAY)
+            || ta.query(TemporalQueries.localDate()) != null;
+        final boolean hasTime = ta.isSupported(ChronoField.NANO_OF_DAY)
+            || ta.query(TemporalQueries.localTime()) != null;
+
+        if (hasDate && hasTime) {
+            return ZonedDateTime.of(LocalDate.from(ta), LocalTime.from(ta), zone);
+        }
+        if (hasDate) {
+            return ZonedDateTime.of(LocalDate.from(ta), LocalTime.MIDNIGHT, zone);
+        }
+        if (hasTime) {
+            return ZonedDateTime.of(LocalDate.now(clock), LocalTime.from(ta), zone);
+        }
+        return ta; // nothing to upgrade
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private TemporalParser() {
+        // static util class
+    }
+}
@@ -0,0 +1,224 @@
+package berlin.yuna.typemap.logic;
+
+import berlin.yuna.typemap.config.TypeConversionRegister;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static berlin.yuna.typemap.config.TypeConversionRegister.IGNORED_TRACE_ELEMENTS;
+import static berlin.yuna.typemap.config.TypeConversionRegister.LINE_SEPARATOR;
+
+/**
+ * Renders a {@link Throwable} and its causes with the frames of {@link TypeConversionRegister#IGNORED_TRACE_ELEMENTS} filtered out.
+ * <p>
+ * The ignored prefixes are compiled into a trie once and recompiled only when the list changes, so a frame is
+ * matched with a single walk over its class name. Frames and causes are capped, a cause cycle is printed as
+ * {@code [CIRCULAR REFERENCE: ...]} like {@link Throwable#printStackTrace()} does. If all frames of a throwable
+ * are filtered, its first {@value #FALLBACK_FRAMES} frames are kept.
+ * </p>
+ */
+@SuppressWarnings("java:S3776")
+public class ThrowableRenderer {
+
+    /**
+     * Default maximum number of frames rendered per throwable.
+     */
+    public static final int MAX_FRAMES = 256;
+    /**
+     * Default maximum number of causes rendered.
+     */
+    public static final int MAX_CAUSES = 32;
+    /**
+     * Number of frames kept if all frames of a throwable are ignored.
+     */
+    public static final int FALLBACK_FRAMES = 3;
+
+    private static volatile PrefixTrie ignored = PrefixTrie.of(new ArrayList<>());
+
+    /**
+     * Renders the throwable with the default limits {@value #MAX_FRAMES} and {@value #MAX_CAUSES}.
+     *
+     * @param throwable the throwable to render.
+     * @return the rendered throwable, an empty string for {@code null}.
+     */
+    public static String stringOf(final Throwable throwable) {
+        try {
+            return appendTo(new StringBuilder(), throwable, MAX_FRAMES, MAX_CAUSES).toString();
+        } catch (final IOException e) {
+            // StringBuilder doesn't throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Renders the throwable into the given {@link Appendable} without building the full text in memory.
+     *
+     * @param <A>       the type of the target.
+     * @param target    the target to append to e.g. a {@link java.io.Writer}.
+     * @param throwable the throwable to render, {@code null} appends nothing.
+     * @param maxFrames the maximum number of frames per throwable, the rest is summarized as {@code ... n more}.
+     * @param maxCauses the maximum number of causes.
+     * @return the given target.
+     * @throws IOException if the target fails to append.
+     */
+    public static <A extends Appendable> A appendTo(final A target, final Throwable throwable, final int maxFrames, final int maxCauses) throws IOException {
+        if (throwable == null) {
+            return target;
+        }
+        final PrefixTrie trie = ignoredTrie();
+        final Throwable[] seen = new Throwable[Math.max(0, maxCauses) + 1];
+        seen[0] = throwable;
+        target.append(String.valueOf(throwable)).append(LINE_SEPARATOR);
+        appendFrames(target, throwable.getStackTrace(), trie, maxFrames);
+
+        Throwable cause = throwable.getCause();
+        for (int depth = 1; cause != null && depth < seen.length; depth++) {
+            if (contains(seen, depth, cause)) {
+                target.append("\t[CIRCULAR REFERENCE: ").append(String.valueOf(cause)).append(']').append(LINE_SEPARATOR);
+                break;
+            }
+            seen[depth] = cause;
+            target.append("Caused by: ").append(String.valueOf(cause)).append(LINE_SEPARATOR);
+            appendFrames(target, cause.getStackTrace(), trie, maxFrames);
+            cause = cause.getCause();
+        }
+        return target;
+    }
+
+    /**
+     * Returns {@code true} if the class name starts with one of {@link TypeConversionRegister#IGNORED_TRACE_ELEMENTS}.
+     *
+     * @param className the class name to check.
+     * @return {@code true} if frames of this class are filtered.
+     */
+    public static boolean isIgnored(final String className) {
+        return ignoredTrie().matches(className);
+    }
+
+    private static void appendFrames(final Appendable target, final StackTraceElement[] frames, final PrefixTrie trie, final int maxFrames) throws IOException {
+        int written = 0;
+        for (int i = 0; i < frames.length; i++) {
+            if (!trie.matches(frames[i].getClassName())) {
+                if (written == maxFrames) {
+                    target.append("\t... ").append(String.valueOf(frames.length - i)).append(" more").append(LINE_SEPARATOR);
+                    return;
+                }
+                appendFrame(target, frames[i]);
+                written++;
+            }
+        }
+        for (int i = 0; written == 0 && i < Math.min(frames.length, Math.min(FALLBACK_FRAMES, maxFrames)); i++) {
+            appendFrame(target, frames[i]);
+        }
+    }
+
+    private static void appendFrame(final Appendable target, final StackTraceElement frame) throws IOException {
+        target.append("\tat ");
+        final String loader = frame.getClassLoaderName();
+        if (frame.getModuleName() == null && (loader == null || "app".equals(loader))) {
+            // same as StackTraceElement.toString for the class path, without the intermediate string
+            target.append(frame.getClassName()).append('.').append(frame.getMethodName()).append('(');
+            if (frame.isNativeMethod()) {
+                target.append("Native Method");
+            } else if (frame.getFileName() == null) {
+                target.append("Unknown Source");
+            } else {
+                target.append(frame.getFileName());
+                if (frame.getLineNumber() >= 0) {
+                    target.append(':').append(String.valueOf(frame.getLineNumber()));
+                }
+            }
+            target.append(')');
+        } else {
+            target.append(frame.toString());
+        }
+        target.append(LINE_SEPARATOR);
+    }
+
+    private static boolean contains(final Throwable[] seen, final int length, final Throwable throwable) {
+        for (int i = 0; i < length; i++) {
+            if (seen[i] == throwable) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static PrefixTrie ignoredTrie() {
+        final PrefixTrie current = ignored;
+        if (current.prefixes().equals(IGNORED_TRACE_ELEMENTS)) {
+            return current;
+        }
+        final PrefixTrie result = PrefixTrie.of(new ArrayList<>(IGNORED_TRACE_ELEMENTS));
+        ignored = result;
+        return result;
+    }
+
+    /**
+     * Trie of prefixes, each node holds its edge characters and the matching children. Not modified once built.
+     */
+    private record PrefixTrie(List<String> prefixes, Node root) {
+
+        boolean matches(final String value) {
+            Node node = root;
+            for (int i = 0; !node.terminal; i++) {
+                if (i == value.length()) {
+                    return false;
+                }
+                node = node.child(value.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        static PrefixTrie of(final List<String> prefixes) {
+            final Node root = new Node();
+            for (final String prefix : prefixes) {
+                Node node = root;
+                for (int i = 0; prefix != null && i < prefix.length(); i++) {
+                    node = node.add(prefix.charAt(i));
+                }
+                node.terminal = prefix != null;
+            }
+            return new PrefixTrie(Collections.unmodifiableList(prefixes), root);
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        Node child(final char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node add(final char key) {
+            final Node existing = child(key);
+            if (existing != null) {
+                return existing;
+            }
+            final Node result = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            children[children.length - 1] = result;
+            return result;
+        }
+    }
+
+    private ThrowableRenderer() {
+        // static util class
+    }
+}
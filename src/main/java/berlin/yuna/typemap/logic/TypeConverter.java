@@ -1,24 +1,46 @@
 package berlin.yuna.typemap.logic;
 
 
+import berlin.yuna.typemap.config.ConversionRegistry;
+import berlin.yuna.typemap.model.ConversionResult;
+import berlin.yuna.typemap.model.ConversionResult.Reason;
 import berlin.yuna.typemap.model.FunctionOrNull;
 import berlin.yuna.typemap.model.Pair;
 import berlin.yuna.typemap.model.TypeList;
 import berlin.yuna.typemap.model.TypeMap;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static berlin.yuna.typemap.config.TypeConversionRegister.TYPE_CONVERSIONS;
+import static berlin.yuna.typemap.config.TypeConversionRegister.conversionRegistry;
 
 @SuppressWarnings("java:S1168")
 public class TypeConverter {
 
+    /**
+     * Default number of items converted by a single task of {@link #collectionOfParallel(Object, Supplier, Class)}.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * Name and ordinal lookup tables per enum type, see {@link #enumOf(Object, Class, boolean)}.
+     */
+    private static final ClassValue<EnumLookup> ENUM_LOOKUPS = new ClassValue<>() {
+        @Override
+        protected EnumLookup computeValue(final Class<?> type) {
+            return EnumLookup.of(type);
+        }
+    };
+
     /**
      * Safely converts an object to the specified target typeId.
      * <p>
@@ -40,17 +62,41 @@ public class TypeConverter {
      * @param targetType The class of the target typeId.
      * @return The converted object of typeId {@code T}, or {@code null} if the conversion is not supported.
      */
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public static <T> T convertObj(final Object value, final Class<T> targetType) {
+        return convertObj(value, targetType, conversionRegistry());
+    }
+
+    /**
+     * Safely converts an object to the specified target typeId using the conversions of the given registry
+     * instead of the global one, see {@link #convertObj(Object, Class)}.
+     *
+     * @param <T>        The target typeId to convert the value to.
+     * @param value      The object value to convert.
+     * @param targetType The class of the target typeId.
+     * @param registry   The registry snapshot providing the conversions.
+     * @return The converted object of typeId {@code T}, or {@code null} if the conversion is not supported.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> T convertObj(final Object value, final Class<T> targetType, final ConversionRegistry registry) {
         if (value == null) return null;
+        if (registry == null) return convertObj(value, targetType);
         if (targetType.isInstance(value)) {
             return targetType.cast(value);
         }
 
+        // Arrays to arrays e.g. int[] -> long[]
+        if (targetType.isArray() && value.getClass().isArray()) {
+            final FunctionOrNull plan = registry.conversionPlanOf(value.getClass(), targetType);
+            final Object converted = plan.apply(value);
+            if (converted != null) {
+                return targetType.cast(converted);
+            }
+        }
+
         // Handle non-empty arrays, collections, map
         final Object firstValue = getFirstItem(value);
         if (firstValue != null) {
-            return convertObj(firstValue, targetType);
+            return convertObj(firstValue, targetType, registry);
         }
 
         // Enums
@@ -61,27 +107,156 @@ public class TypeConverter {
             }
         }
 
-        final Class<?> sourceType = value.getClass();
-        final Map<Class<?>, FunctionOrNull> conversions = TYPE_CONVERSIONS.getOrDefault(targetType, Collections.emptyMap());
+        // Cached (source, target) plan: exact match, general converter or fallback via String
+        final FunctionOrNull plan = registry.conversionPlanOf(value.getClass(), targetType);
+        return targetType.cast(plan.apply(value));
+    }
+
+    /**
+     * Converts an object like {@link #convertObj(Object, Class)}, but tells why a conversion has no value
+     * instead of returning {@code null}, see {@link ConversionResult}.
+     *
+     * @param <T>        The target type to convert the value to.
+     * @param value      The object value to convert.
+     * @param targetType The class of the target type.
+     * @return the converted value or the {@link ConversionResult.Reason} of the failure.
+     */
+    public static <T> ConversionResult<T> tryConvert(final Object value, final Class<T> targetType) {
+        return tryConvert(value, targetType, conversionRegistry());
+    }
+
+    /**
+     * Converts an object like {@link #convertObj(Object, Class, ConversionRegistry)}, but tells why a conversion
+     * has no value instead of returning {@code null}. Exceptions of converters are classified, never rethrown.
+     *
+     * @param <T>        The target type to convert the value to.
+     * @param value      The object value to convert.
+     * @param targetType The class of the target type.
+     * @param registry   The registry snapshot providing the conversions.
+     * @return the converted value or the {@link ConversionResult.Reason} of the failure.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static <T> ConversionResult<T> tryConvert(final Object value, final Class<T> targetType, final ConversionRegistry registry) {
+        if (value == null) return ConversionResult.failure(Reason.NULL_VALUE);
+        if (registry == null) return tryConvert(value, targetType);
+        if (targetType.isInstance(value)) {
+            return ConversionResult.success(targetType.cast(value));
+        }
 
-        // First try to find exact match
-        final FunctionOrNull exactMatch = conversions.get(sourceType);
-        if (exactMatch != null) {
-            return targetType.cast(exactMatch.apply(value));
+        // Arrays, collections, maps and enums like convertObj
+        if (targetType.isArray() && value.getClass().isArray()) {
+            final Object converted = registry.conversionPlanOf(value.getClass(), targetType).apply(value);
+            if (converted != null) {
+                return ConversionResult.success(targetType.cast(converted));
+            }
+        }
+        final Object firstValue = getFirstItem(value);
+        if (firstValue != null) {
+            return tryConvert(firstValue, targetType, registry);
+        }
+        if (targetType.isEnum()) {
+            final Enum anEnum = enumOf(value, (Class<Enum>) targetType);
+            if (anEnum != null) {
+                return ConversionResult.success((T) anEnum);
+            }
         }
 
-        // Fallback to more general converters
-        for (final Map.Entry<Class<?>, FunctionOrNull> entry : conversions.entrySet()) {
-            if (entry.getKey().isAssignableFrom(sourceType)) {
-                return targetType.cast(entry.getValue().apply(value));
+        try {
+            final Object result = registry.conversionPlanOf(value.getClass(), targetType).applyWithException(value);
+            if (result != null) {
+                return ConversionResult.success(targetType.cast(result));
             }
+        } catch (final ArithmeticException overflow) {
+            return ConversionResult.failure(Reason.OVERFLOW);
+        } catch (final Exception ignored) {
+            // classified below
+        }
+        if (!registry.canConvert(value.getClass(), targetType)) {
+            return ConversionResult.failure(Reason.NO_CONVERTER);
+        }
+        if (!isNumericType(targetType) || !isNumeric(value)) {
+            return ConversionResult.failure(Reason.PARSE_FAILURE);
         }
+        return ConversionResult.failure(isIntegralType(targetType) && hasFraction(value) ? Reason.FRACTION : Reason.OVERFLOW);
+    }
 
-        // Fallback to string convert
-        if (!String.class.equals(sourceType)) {
-            return convertObj(String.valueOf(value), targetType);
+    /**
+     * Converts an object to a primitive {@code int} without boxing.
+     * {@link Number}s are unwrapped and {@link CharSequence}s are parsed directly,
+     * anything else is converted via {@link #convertObj(Object, Class)}.
+     *
+     * @param value    The object value to convert.
+     * @param fallback The value returned if the value is {@code null} or not convertible.
+     * @return the converted value or the fallback.
+     */
+    public static int toInt(final Object value, final int fallback) {
+        if (value instanceof final Number number) {
+            return number.intValue();
+        } else if (value instanceof final CharSequence chars) {
+            return NumberParser.parseInt(chars, fallback);
         }
-        return null;
+        final Integer result = value == null ? null : convertObj(value, Integer.class);
+        return result == null ? fallback : result;
+    }
+
+    /**
+     * Converts an object to a primitive {@code long} without boxing.
+     * {@link Number}s are unwrapped and {@link CharSequence}s are parsed directly,
+     * anything else is converted via {@link #convertObj(Object, Class)}.
+     *
+     * @param value    The object value to convert.
+     * @param fallback The value returned if the value is {@code null} or not convertible.
+     * @return the converted value or the fallback.
+     */
+    public static long toLong(final Object value, final long fallback) {
+        if (value instanceof final Number number) {
+            return number.longValue();
+        } else if (value instanceof final CharSequence chars) {
+            return NumberParser.parseLong(chars, fallback);
+        }
+        final Long result = value == null ? null : convertObj(value, Long.class);
+        return result == null ? fallback : result;
+    }
+
+    /**
+     * Converts an object to a primitive {@code double} without boxing.
+     * {@link Number}s are unwrapped and {@link CharSequence}s are parsed directly,
+     * anything else is converted via {@link #convertObj(Object, Class)}.
+     *
+     * @param value    The object value to convert.
+     * @param fallback The value returned if the value is {@code null} or not convertible.
+     * @return the converted value or the fallback.
+     */
+    public static double toDouble(final Object value, final double fallback) {
+        if (value instanceof final Number number) {
+            return number.doubleValue();
+        } else if (value instanceof final CharSequence chars) {
+            return NumberParser.parseDouble(chars, fallback);
+        }
+        final Double result = value == null ? null : convertObj(value, Double.class);
+        return result == null ? fallback : result;
+    }
+
+    /**
+     * Converts an object to a primitive {@code boolean} without boxing.
+     * {@link Number}s are {@code true} if their int value is {@code 1},
+     * {@link CharSequence}s are {@code true} if they equal {@code "true"} (ignoring case) or {@code "1"},
+     * anything else is converted via {@link #convertObj(Object, Class)}.
+     *
+     * @param value    The object value to convert.
+     * @param fallback The value returned if the value is {@code null} or not convertible.
+     * @return the converted value or the fallback.
+     */
+    public static boolean toBoolean(final Object value, final boolean fallback) {
+        if (value instanceof final Boolean bool) {
+            return bool;
+        } else if (value instanceof final Number number) {
+            return number.intValue() == 1;
+        } else if (value instanceof final CharSequence chars) {
+            return isTrue(chars);
+        }
+        final Boolean result = value == null ? null : convertObj(value, Boolean.class);
+        return result == null ? fallback : result;
     }
 
     /**
@@ -294,9 +469,217 @@ public class TypeConverter {
         return arrayOf(Arrays.stream(array).collect(Collectors.toList()), generator, componentType);
     }
 
+    /**
+     * Converts a column of values to the target type. Unlike {@link #collectionOf(Object, Class)},
+     * the converter is resolved only once per run of equal source classes and positions are kept:
+     * {@code null} and not convertible values stay {@code null} at their index.
+     *
+     * @param <T>        The target type of the values.
+     * @param input      The values to convert.
+     * @param targetType The class of the target type.
+     * @return a new list with the same size as the input, or an empty list if input or target type is {@code null}.
+     */
+    public static <T> List<T> convertAll(final Object[] input, final Class<T> targetType) {
+        return input == null ? new ArrayList<>() : convertAll(Arrays.asList(input), targetType);
+    }
+
+    /**
+     * Converts a column of values to the target type. Unlike {@link #collectionOf(Object, Class)},
+     * the converter is resolved only once per run of equal source classes and positions are kept:
+     * {@code null} and not convertible values stay {@code null} at their index.
+     *
+     * @param <T>        The target type of the values.
+     * @param input      The values to convert.
+     * @param targetType The class of the target type.
+     * @return a new list with the same size as the input, or an empty list if input or target type is {@code null}.
+     */
+    public static <T> List<T> convertAll(final List<?> input, final Class<T> targetType) {
+        if (input == null || targetType == null) {
+            return new ArrayList<>();
+        }
+        final ColumnConverter<T> converter = new ColumnConverter<>(targetType, conversionRegistry());
+        final List<T> result = new ArrayList<>(input.size());
+        for (final Object item : input) {
+            result.add(converter.apply(item));
+        }
+        return result;
+    }
+
+    /**
+     * Converts a column of values into a preallocated {@code long[]} without boxing the results.
+     * Accepts a {@link Collection}, an array or a single value. {@link Number}s and {@link CharSequence}s
+     * are unwrapped or parsed directly, other values are converted like {@link #convertAll(List, Class)}.
+     *
+     * @param input    The values to convert.
+     * @param fallback The value used for {@code null} and not convertible values.
+     * @return an array with one entry per input value.
+     */
+    public static long[] longArrayOf(final Object input, final long fallback) {
+        final long[] direct = primitiveArrayOf(input, long[].class);
+        if (direct != null) {
+            return direct;
+        }
+        final List<?> values = columnOf(input);
+        final long[] result = new long[values.size()];
+        final ColumnConverter<Long> converter = new ColumnConverter<>(Long.class, conversionRegistry());
+        int i = 0;
+        for (final Object value : values) {
+            if (value instanceof Number || value instanceof CharSequence) {
+                result[i++] = toLong(value, fallback);
+            } else {
+                final Long converted = converter.apply(value);
+                result[i++] = converted == null ? fallback : converted;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a column of values into a preallocated {@code double[]} without boxing the results.
+     * Accepts a {@link Collection}, an array or a single value. {@link Number}s and {@link CharSequence}s
+     * are unwrapped or parsed directly, other values are converted like {@link #convertAll(List, Class)}.
+     *
+     * @param input    The values to convert.
+     * @param fallback The value used for {@code null} and not convertible values.
+     * @return an array with one entry per input value.
+     */
+    public static double[] doubleArrayOf(final Object input, final double fallback) {
+        final double[] direct = primitiveArrayOf(input, double[].class);
+        if (direct != null) {
+            return direct;
+        }
+        final List<?> values = columnOf(input);
+        final double[] result = new double[values.size()];
+        final ColumnConverter<Double> converter = new ColumnConverter<>(Double.class, conversionRegistry());
+        int i = 0;
+        for (final Object value : values) {
+            if (value instanceof Number || value instanceof CharSequence) {
+                result[i++] = toDouble(value, fallback);
+            } else {
+                final Double converted = converter.apply(value);
+                result[i++] = converted == null ? fallback : converted;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Converts a column of values into a preallocated {@code int[]} without boxing the results.
+     * Accepts a {@link Collection}, an array or a single value. {@link Number}s and {@link CharSequence}s
+     * are unwrapped or parsed directly, other values are converted like {@link #convertAll(List, Class)}.
+     *
+     * @param input    The values to convert.
+     * @param fallback The value used for {@code null} and not convertible values.
+     * @return an array with one entry per input value.
+     */
+    public static int[] intArrayOf(final Object input, final int fallback) {
+        final int[] direct = primitiveArrayOf(input, int[].class);
+        if (direct != null) {
+            return direct;
+        }
+        final List<?> values = columnOf(input);
+        final int[] result = new int[values.size()];
+        final ColumnConverter<Integer> converter = new ColumnConverter<>(Integer.class, conversionRegistry());
+        int i = 0;
+        for (final Object value : values) {
+            if (value instanceof Number || value instanceof CharSequence) {
+                result[i++] = toInt(value, fallback);
+            } else {
+                final Integer converted = converter.apply(value);
+                result[i++] = converted == null ? fallback : converted;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parallel variant of {@link #collectionOf(Object, Supplier, Class)} using the common {@link ForkJoinPool}
+     * and a split threshold of {@value #PARALLEL_THRESHOLD} items.
+     *
+     * @param <T>      Type of the target collection.
+     * @param <E>      Type of the elements in the target collection.
+     * @param input    The input object, which can be an array or a collection.
+     * @param output   A supplier for creating an empty collection of typeId T.
+     * @param itemType The class typeId of the elements to be contained in the output collection.
+     * @return A collection of typeId T containing elements of typeId E in input order, or null if the output supplier is null.
+     */
+    public static <T extends Collection<E>, E> T collectionOfParallel(final Object input, final Supplier<? extends T> output, final Class<E> itemType) {
+        return collectionOfParallel(input, output, itemType, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Parallel variant of {@link #collectionOf(Object, Supplier, Class)}. The input is split into chunks
+     * of at most {@code threshold} items which are converted on the given pool. Order and the
+     * null-filtering of the sequential variant are kept. Inputs below the threshold are converted
+     * sequentially on the calling thread.
+     *
+     * @param <T>       Type of the target collection.
+     * @param <E>       Type of the elements in the target collection.
+     * @param input     The input object, which can be an array or a collection.
+     * @param output    A supplier for creating an empty collection of typeId T.
+     * @param itemType  The class typeId of the elements to be contained in the output collection.
+     * @param pool      The pool to run the conversion on.
+     * @param threshold The maximum number of items converted by a single task.
+     * @return A collection of typeId T containing elements of typeId E in input order, or null if the output supplier is null.
+     */
+    public static <T extends Collection<E>, E> T collectionOfParallel(final Object input, final Supplier<? extends T> output, final Class<E> itemType, final ForkJoinPool pool, final int threshold) {
+        if (output == null) {
+            return null;
+        } else if (input == null || itemType == null || !(input instanceof Collection<?> || input.getClass().isArray())) {
+            return collectionOf(input, output, itemType);
+        }
+        final List<?> values = columnOf(input);
+        final Object[] converted = new Object[values.size()];
+        final ConvertTask<E> task = new ConvertTask<>(values, converted, itemType, 0, values.size(), Math.max(1, threshold));
+        if (values.size() <= threshold) {
+            task.compute();
+        } else {
+            (pool == null ? ForkJoinPool.commonPool() : pool).invoke(task);
+        }
+        final T result = output.get();
+        if (result != null) {
+            for (final Object item : converted) {
+                if (item != null) {
+                    result.add(itemType.cast(item));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parallel variant of {@link #arrayOf(Object, IntFunction, Class)}, see {@link #collectionOfParallel(Object, Supplier, Class)}.
+     *
+     * @param <E>           The component type of the array.
+     * @param object        The object to be converted.
+     * @param generator     A function to generate the array of the required size.
+     * @param componentType The class of the array's component type.
+     * @return an array of the specified component type.
+     */
+    public static <E> E[] arrayOfParallel(final Object object, final IntFunction<E[]> generator, final Class<E> componentType) {
+        return arrayOfParallel(object, generator, componentType, ForkJoinPool.commonPool(), PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Parallel variant of {@link #arrayOf(Object, IntFunction, Class)}, see {@link #collectionOfParallel(Object, Supplier, Class, ForkJoinPool, int)}.
+     *
+     * @param <E>           The component type of the array.
+     * @param object        The object to be converted.
+     * @param generator     A function to generate the array of the required size.
+     * @param componentType The class of the array's component type.
+     * @param pool          The pool to run the conversion on.
+     * @param threshold     The maximum number of items converted by a single task.
+     * @return an array of the specified component type.
+     */
+    public static <E> E[] arrayOfParallel(final Object object, final IntFunction<E[]> generator, final Class<E> componentType, final ForkJoinPool pool, final int threshold) {
+        final List<E> result = collectionOfParallel(object, ArrayList::new, componentType, pool, threshold);
+        return result.toArray(generator.apply(result.size()));
+    }
+
     /**
      * Converts a string value to an enum of a specified type. If the value does not match
      * any enum constants, or if an error occurs, this method returns null.
+     * Numbers are treated as ordinal. Lookups use a cached table per enum type and never throw.
      *
      * @param <T>      The enum type to which the string is to be converted.
      * @param value    The string value to be converted to an enum constant.
@@ -304,20 +687,35 @@ public class TypeConverter {
      * @return the enum constant corresponding to the given string, or null if no match is found.
      */
     public static <T extends Enum<T>> T enumOf(final Object value, final Class<T> enumType) {
-        try {
-            if(value instanceof Number) {
-                final int ordinal = ((Number) value).intValue();
-                final T[] enumConstants = enumType.getEnumConstants();
-                if (ordinal >= 0 && ordinal < enumConstants.length) {
-                    return enumConstants[ordinal];
-                }
-                return null;
-            } else {
-                return Enum.valueOf(enumType, String.valueOf(value));
-            }
-        } catch (final IllegalArgumentException ignored) {
+        return enumOf(value, enumType, false);
+    }
+
+    /**
+     * Converts a string value to an enum of a specified type. If the value does not match
+     * any enum constants, this method returns null. Numbers are treated as ordinal.
+     * Lookups use a cached table per enum type and never throw.
+     *
+     * @param <T>        The enum type to which the string is to be converted.
+     * @param value      The string value to be converted to an enum constant.
+     * @param enumType   The class of the enum type.
+     * @param ignoreCase If {@code true}, names are matched case-insensitive when there is no exact match.
+     * @return the enum constant corresponding to the given value, or null if no match is found.
+     */
+    public static <T extends Enum<T>> T enumOf(final Object value, final Class<T> enumType, final boolean ignoreCase) {
+        if (value == null || enumType == null) {
             return null;
         }
+        final EnumLookup lookup = ENUM_LOOKUPS.get(enumType);
+        final Enum<?> result;
+        if (value instanceof final Number number) {
+            final int ordinal = number.intValue();
+            result = ordinal >= 0 && ordinal < lookup.constants().length ? lookup.constants()[ordinal] : null;
+        } else {
+            final String name = String.valueOf(value);
+            final Enum<?> exact = lookup.byName().get(name);
+            result = exact != null || !ignoreCase ? exact : lookup.byLowerName().get(name.toLowerCase(Locale.ROOT));
+        }
+        return enumType.cast(result);
     }
 
     /**
@@ -404,16 +802,223 @@ public class TypeConverter {
         }
     }
 
+    /**
+     * Returns the length of an array of any type, including all primitive arrays, without reflection.
+     *
+     * @param array The array to inspect.
+     * @return the length of the array or {@code -1} if the input is not an array.
+     */
+    @SuppressWarnings("java:S3776")
+    public static int arrayLength(final Object array) {
+        if (array instanceof final Object[] items) {
+            return items.length;
+        } else if (array instanceof final int[] items) {
+            return items.length;
+        } else if (array instanceof final long[] items) {
+            return items.length;
+        } else if (array instanceof final double[] items) {
+            return items.length;
+        } else if (array instanceof final float[] items) {
+            return items.length;
+        } else if (array instanceof final boolean[] items) {
+            return items.length;
+        } else if (array instanceof final char[] items) {
+            return items.length;
+        } else if (array instanceof final byte[] items) {
+            return items.length;
+        } else if (array instanceof final short[] items) {
+            return items.length;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the element at the given index of an array of any type, including all primitive arrays, without reflection.
+     * Only the requested element is boxed.
+     *
+     * @param array The array to read from.
+     * @param index The index of the element.
+     * @return the element or {@code null} if the input is not an array or the index is out of range.
+     */
+    @SuppressWarnings("java:S3776")
+    public static Object arrayGet(final Object array, final int index) {
+        if (index < 0 || index >= arrayLength(array)) {
+            return null;
+        } else if (array instanceof final Object[] items) {
+            return items[index];
+        } else if (array instanceof final int[] items) {
+            return items[index];
+        } else if (array instanceof final long[] items) {
+            return items[index];
+        } else if (array instanceof final double[] items) {
+            return items[index];
+        } else if (array instanceof final float[] items) {
+            return items[index];
+        } else if (array instanceof final boolean[] items) {
+            return items[index];
+        } else if (array instanceof final char[] items) {
+            return items[index];
+        } else if (array instanceof final byte[] items) {
+            return items[index];
+        }
+        return ((short[]) array)[index];
+    }
+
+    /**
+     * Converts a numeric primitive array ({@code byte[]}, {@code short[]}, {@code int[]}, {@code long[]},
+     * {@code float[]}, {@code double[]}) into another numeric primitive array without boxing.
+     * Elements are narrowed like the {@link Number} value methods e.g. {@link Number#intValue()}.
+     *
+     * @param <A>       The target array type.
+     * @param array     The array to convert.
+     * @param arrayType The class of the target array e.g. {@code long[].class}.
+     * @return a new array of the target type or {@code null} if source or target is not a numeric primitive array.
+     */
+    @SuppressWarnings("java:S3776")
+    public static <A> A primitiveArrayOf(final Object array, final Class<A> arrayType) {
+        if (!isNumericArray(array) || arrayType == null) {
+            return null;
+        }
+        final int length = arrayLength(array);
+        final boolean floating = array instanceof double[] || array instanceof float[];
+        final Object result;
+        if (arrayType == long[].class) {
+            final long[] items = new long[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? (long) doubleAt(array, i) : longAt(array, i);
+            }
+            result = items;
+        } else if (arrayType == int[].class) {
+            final int[] items = new int[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? (int) doubleAt(array, i) : (int) longAt(array, i);
+            }
+            result = items;
+        } else if (arrayType == double[].class) {
+            final double[] items = new double[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? doubleAt(array, i) : longAt(array, i);
+            }
+            result = items;
+        } else if (arrayType == float[].class) {
+            final float[] items = new float[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? (float) doubleAt(array, i) : longAt(array, i);
+            }
+            result = items;
+        } else if (arrayType == short[].class) {
+            final short[] items = new short[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? (short) doubleAt(array, i) : (short) longAt(array, i);
+            }
+            result = items;
+        } else if (arrayType == byte[].class) {
+            final byte[] items = new byte[length];
+            for (int i = 0; i < length; i++) {
+                items[i] = floating ? (byte) doubleAt(array, i) : (byte) longAt(array, i);
+            }
+            result = items;
+        } else {
+            return null;
+        }
+        return arrayType.cast(result);
+    }
+
+    private static boolean isNumericArray(final Object array) {
+        return array instanceof int[] || array instanceof long[] || array instanceof double[]
+            || array instanceof float[] || array instanceof short[] || array instanceof byte[];
+    }
+
+    private static long longAt(final Object array, final int index) {
+        if (array instanceof final int[] items) {
+            return items[index];
+        } else if (array instanceof final long[] items) {
+            return items[index];
+        } else if (array instanceof final short[] items) {
+            return items[index];
+        }
+        return ((byte[]) array)[index];
+    }
+
+    private static double doubleAt(final Object array, final int index) {
+        return array instanceof final double[] items ? items[index] : ((float[]) array)[index];
+    }
+
     private static Object getFirstFromArray(final Object value) {
-        final AtomicBoolean isFirst = new AtomicBoolean(true);
-        final AtomicReference<Object> result = new AtomicReference<>(null);
-        iterateOverArray(value, item -> {
-            if (isFirst.get()) {
-                isFirst.set(false);
-                result.set(item);
+        return arrayLength(value) > 0 ? arrayGet(value, 0) : null;
+    }
+
+    /**
+     * Resolves the per-item conversion for {@link ColumnConverter}. Containers and enum targets
+     * need the per-value handling of {@link #convertObj(Object, Class)}, everything else uses the cached plan.
+     */
+    @SuppressWarnings("rawtypes")
+    private static FunctionOrNull converterOf(final Class<?> sourceType, final Class<?> targetType, final ConversionRegistry registry) {
+        if (targetType.isAssignableFrom(sourceType)) {
+            return value -> value;
+        } else if (targetType.isEnum() || sourceType.isArray() || Collection.class.isAssignableFrom(sourceType) || Map.class.isAssignableFrom(sourceType) || Map.Entry.class.isAssignableFrom(sourceType)) {
+            return value -> convertObj(value, targetType, registry);
+        }
+        return registry.conversionPlanOf(sourceType, targetType);
+    }
+
+    static List<?> columnOf(final Object input) {
+        if (input == null) {
+            return List.of();
+        } else if (input instanceof final List<?> list) {
+            return list;
+        } else if (input instanceof final Collection<?> collection) {
+            return new ArrayList<>(collection);
+        } else if (input instanceof final Object[] array) {
+            return Arrays.asList(array);
+        } else if (input.getClass().isArray()) {
+            final int length = arrayLength(input);
+            final List<Object> result = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                result.add(arrayGet(input, i));
             }
-        });
-        return result.get();
+            return result;
+        }
+        return Collections.singletonList(input);
+    }
+
+    private static boolean isNumericType(final Class<?> type) {
+        return Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class && type != char.class && type != void.class);
+    }
+
+    private static boolean isIntegralType(final Class<?> type) {
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class || type == BigInteger.class
+            || type == int.class || type == long.class || type == short.class || type == byte.class
+            || type == AtomicInteger.class || type == AtomicLong.class;
+    }
+
+    private static boolean isNumeric(final Object value) {
+        return value instanceof Number || (value instanceof final CharSequence chars && NumberParser.isBigDecimal(chars));
+    }
+
+    private static boolean hasFraction(final Object value) {
+        if (value instanceof final CharSequence chars) {
+            return NumberParser.hasFraction(chars);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            return Double.isFinite(number) && number != Math.rint(number);
+        }
+        return value instanceof final BigDecimal number && number.signum() != 0 && number.scale() > 0 && number.stripTrailingZeros().scale() > 0;
+    }
+
+    private static boolean isTrue(final CharSequence chars) {
+        final String expected = "true";
+        if (chars.length() == 1) {
+            return chars.charAt(0) == '1';
+        } else if (chars.length() != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(chars.charAt(i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private static <T extends Collection<E>, E> T collectionOf(final Collection<?> input, final Supplier<T> output, final Class<E> itemType) {
@@ -422,6 +1027,85 @@ public class TypeConverter {
         return result;
     }
 
+    private record EnumLookup(Enum<?>[] constants, Map<String, Enum<?>> byName, Map<String, Enum<?>> byLowerName) {
+        static EnumLookup of(final Class<?> type) {
+            final Object[] values = type.getEnumConstants();
+            final Enum<?>[] constants = values == null ? new Enum<?>[0] : Arrays.copyOf(values, values.length, Enum[].class);
+            final Map<String, Enum<?>> byName = new HashMap<>();
+            final Map<String, Enum<?>> byLowerName = new HashMap<>();
+            for (final Enum<?> constant : constants) {
+                byName.put(constant.name(), constant);
+                byLowerName.putIfAbsent(constant.name().toLowerCase(Locale.ROOT), constant);
+            }
+            return new EnumLookup(constants, byName, byLowerName);
+        }
+    }
+
+    /**
+     * Converts the items of a column, resolving the conversion only once per run of equal source classes.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class ColumnConverter<T> {
+        private final Class<T> targetType;
+        private final ConversionRegistry registry;
+        private Class<?> sourceType;
+        private FunctionOrNull converter;
+
+        ColumnConverter(final Class<T> targetType, final ConversionRegistry registry) {
+            this.targetType = targetType;
+            this.registry = registry;
+        }
+
+        @SuppressWarnings("unchecked")
+        T apply(final Object item) {
+            if (item == null) {
+                return null;
+            } else if (item.getClass() != sourceType) {
+                sourceType = item.getClass();
+                converter = converterOf(sourceType, targetType, registry);
+            }
+            return targetType.cast(converter.apply(item));
+        }
+    }
+
+    /**
+     * Converts the range {@code [from, to)} of a column into the same range of the output array.
+     */
+    private static class ConvertTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient List<?> input;
+        private final transient Object[] output;
+        private final Class<E> itemType;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ConvertTask(final List<?> input, final Object[] output, final Class<E> itemType, final int from, final int to, final int threshold) {
+            this.input = input;
+            this.output = output;
+            this.itemType = itemType;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                final List<E> converted = convertAll(input.subList(from, to), itemType);
+                for (int i = 0; i < converted.size(); i++) {
+                    output[from + i] = converted.get(i);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(
+                    new ConvertTask<>(input, output, itemType, from, middle, threshold),
+                    new ConvertTask<>(input, output, itemType, middle, to, threshold)
+                );
+            }
+        }
+    }
+
     private TypeConverter() {
         // static util class
     }
@@ -0,0 +1,215 @@
+package berlin.yuna.typemap.model;
+
+import berlin.yuna.typemap.logic.TypeConverter;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Result of {@link TypeConverter#tryConvert(Object, Class)}: either the converted value or the {@link Reason} why
+ * there is none. Failures are preallocated singletons per reason and {@link #orElseThrow()} throws a shared
+ * {@link Failure} without stack trace, so routing bad values costs neither allocation nor a stack walk.
+ *
+ * @param <T> the type of the converted value.
+ */
+public final class ConversionResult<T> {
+
+    /**
+     * Why a conversion has no value.
+     */
+    public enum Reason {
+        /**
+         * The value to convert was {@code null}.
+         */
+        NULL_VALUE,
+        /**
+         * No converter, chain of converters or {@link String} fallback exists for the source and target type.
+         */
+        NO_CONVERTER,
+        /**
+         * A converter exists but rejected the value e.g. {@code "abc"} to {@link Integer}.
+         */
+        PARSE_FAILURE,
+        /**
+         * The value is a number which is out of the range of the target type e.g. {@code "2147483648"} to {@link Integer}.
+         */
+        OVERFLOW,
+        /**
+         * The value is a number whose fraction would be lost by the integral target type e.g. {@code "1.5"} to {@link Integer}.
+         */
+        FRACTION
+    }
+
+    private static final ConversionResult<?>[] FAILURES = new ConversionResult<?>[Reason.values().length];
+
+    static {
+        for (final Reason reason : Reason.values()) {
+            FAILURES[reason.ordinal()] = new ConversionResult<>(null, reason);
+        }
+    }
+
+    private final T value;
+    private final Reason reason;
+
+    /**
+     * Returns a successful result.
+     *
+     * @param <T>   the type of the value.
+     * @param value the converted value, not {@code null}.
+     * @return the result holding the value.
+     */
+    public static <T> ConversionResult<T> success(final T value) {
+        return new ConversionResult<>(Objects.requireNonNull(value, "value"), null);
+    }
+
+    /**
+     * Returns the shared failed result of the given reason.
+     *
+     * @param <T>    the type of the missing value.
+     * @param reason the reason of the failure.
+     * @return the preallocated result.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ConversionResult<T> failure(final Reason reason) {
+        return (ConversionResult<T>) FAILURES[reason.ordinal()];
+    }
+
+    /**
+     * Returns {@code true} if the conversion has a value.
+     *
+     * @return {@code true} on success.
+     */
+    public boolean isSuccess() {
+        return reason == null;
+    }
+
+    /**
+     * Returns the converted value.
+     *
+     * @return the value or {@code null} if the conversion failed.
+     */
+    public T value() {
+        return value;
+    }
+
+    /**
+     * Returns the reason of the failure.
+     *
+     * @return the reason or {@code null} if the conversion succeeded.
+     */
+    public Reason reason() {
+        return reason;
+    }
+
+    /**
+     * Returns the converted value or the given fallback.
+     *
+     * @param fallback the value to return if the conversion failed.
+     * @return the value or the fallback.
+     */
+    public T orElse(final T fallback) {
+        return reason == null ? value : fallback;
+    }
+
+    /**
+     * Returns the converted value or the result of the given supplier.
+     *
+     * @param fallback the supplier called if the conversion failed.
+     * @return the value or the supplied fallback.
+     */
+    public T orElseGet(final Supplier<? extends T> fallback) {
+        return reason == null ? value : fallback.get();
+    }
+
+    /**
+     * Returns the converted value or throws the shared {@link Failure} of the reason.
+     *
+     * @return the value.
+     * @throws Failure if the conversion failed.
+     */
+    public T orElseThrow() {
+        if (reason != null) {
+            throw Failure.of(reason);
+        }
+        return value;
+    }
+
+    /**
+     * Maps the value of a successful result, failures are passed through.
+     *
+     * @param <R>    the type of the mapped value.
+     * @param mapper the mapping of the value, a {@code null} result is a {@link Reason#PARSE_FAILURE}.
+     * @return the mapped result.
+     */
+    public <R> ConversionResult<R> map(final Function<? super T, ? extends R> mapper) {
+        if (reason != null) {
+            return failure(reason);
+        }
+        final R result = mapper.apply(value);
+        return result == null ? failure(Reason.PARSE_FAILURE) : success(result);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final ConversionResult<?> that)) return false;
+        return Objects.equals(value, that.value) && reason == that.reason;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, reason);
+    }
+
+    @Override
+    public String toString() {
+        return reason == null ? "ConversionResult[" + value + "]" : "ConversionResult[" + reason + "]";
+    }
+
+    private ConversionResult(final T value, final Reason reason) {
+        this.value = value;
+        this.reason = reason;
+    }
+
+    /**
+     * Shared, stackless exception of a failed {@link ConversionResult}.
+     */
+    public static final class Failure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        private static final Failure[] INSTANCES = new Failure[Reason.values().length];
+
+        static {
+            for (final Reason reason : Reason.values()) {
+                INSTANCES[reason.ordinal()] = new Failure(reason);
+            }
+        }
+
+        private final transient Reason reason;
+
+        /**
+         * Returns the shared exception of the given reason.
+         *
+         * @param reason the reason of the failure.
+         * @return the preallocated exception.
+         */
+        public static Failure of(final Reason reason) {
+            return INSTANCES[reason.ordinal()];
+        }
+
+        /**
+         * Returns the reason of the failure.
+         *
+         * @return the reason.
+         */
+        public Reason reason() {
+            return reason;
+        }
+
+        private Failure(final Reason reason) {
+            super("Conversion failed: " + reason, null, false, false);
+            this.reason = reason;
+        }
+    }
+}
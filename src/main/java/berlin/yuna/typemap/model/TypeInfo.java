@@ -1,6 +1,9 @@
 package berlin.yuna.typemap.model;
 
+import berlin.yuna.typemap.config.ConversionRegistry;
 import berlin.yuna.typemap.logic.JsonEncoder;
+import berlin.yuna.typemap.logic.TemporalParser;
+import berlin.yuna.typemap.logic.TypeConverter;
 
 import java.io.File;
 import java.math.BigDecimal;
@@ -21,7 +24,12 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static berlin.yuna.typemap.logic.TypeConverter.collectionOf;
+import static berlin.yuna.typemap.logic.TypeConverter.collectionOfParallel;
 import static berlin.yuna.typemap.logic.TypeConverter.convertObj;
+import static berlin.yuna.typemap.logic.TypeConverter.toBoolean;
+import static berlin.yuna.typemap.logic.TypeConverter.toDouble;
+import static berlin.yuna.typemap.logic.TypeConverter.toInt;
+import static berlin.yuna.typemap.logic.TypeConverter.toLong;
 import static berlin.yuna.typemap.model.Type.typeOf;
 import static berlin.yuna.typemap.model.TypeMap.convertAndMap;
 import static berlin.yuna.typemap.model.TypeMap.treeGet;
@@ -112,6 +120,17 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return typeOf(asLong(path));
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped as primitive without boxing.
+     *
+     * @param fallback the value returned if the value is absent or not convertible.
+     * @param path     the key whose associated value is to be returned.
+     * @return the value if present and convertible, else the fallback.
+     */
+    default long asLongPrimitive(final long fallback, final Object... path) {
+        return toLong(treeGet(this, path), fallback);
+    }
+
     /**
      * Retrieves the value to which the specified key is mapped
      *
@@ -132,6 +151,17 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return typeOf(asInt(path));
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped as primitive without boxing.
+     *
+     * @param fallback the value returned if the value is absent or not convertible.
+     * @param path     the key whose associated value is to be returned.
+     * @return the value if present and convertible, else the fallback.
+     */
+    default int asIntPrimitive(final int fallback, final Object... path) {
+        return toInt(treeGet(this, path), fallback);
+    }
+
     /**
      * Retrieves the value to which the specified key is mapped
      *
@@ -152,6 +182,17 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return typeOf(asDouble(path));
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped as primitive without boxing.
+     *
+     * @param fallback the value returned if the value is absent or not convertible.
+     * @param path     the key whose associated value is to be returned.
+     * @return the value if present and convertible, else the fallback.
+     */
+    default double asDoublePrimitive(final double fallback, final Object... path) {
+        return toDouble(treeGet(this, path), fallback);
+    }
+
     /**
      * Retrieves the value to which the specified key is mapped
      *
@@ -392,6 +433,17 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return typeOf(asBoolean(path));
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped as primitive without boxing.
+     *
+     * @param fallback the value returned if the value is absent or not convertible.
+     * @param path     the key whose associated value is to be returned.
+     * @return the value if present and convertible, else the fallback.
+     */
+    default boolean asBooleanPrimitive(final boolean fallback, final Object... path) {
+        return toBoolean(treeGet(this, path), fallback);
+    }
+
     /**
      * Retrieves the value to which the specified key is mapped
      *
@@ -1012,6 +1064,29 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return asList(Instant.class, path);
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped as a column of instants.
+     * The date format is inferred once for the whole column, see {@link TemporalParser#instantsOf(Object)}.
+     *
+     * @param path the key whose associated value is to be returned.
+     * @return an array with one entry per value, {@code null} for not convertible values.
+     */
+    default Instant[] asInstantArray(final Object... path) {
+        return TemporalParser.instantsOf(treeGet(this, path));
+    }
+
+    /**
+     * Retrieves the value to which the specified key is mapped as a column of epoch milliseconds.
+     * The date format is inferred once for the whole column, see {@link TemporalParser#epochMillisOf(Object, long)}.
+     *
+     * @param fallback the value used for not convertible values.
+     * @param path     the key whose associated value is to be returned.
+     * @return an array with one entry per value.
+     */
+    default long[] asEpochMillisArray(final long fallback, final Object... path) {
+        return TemporalParser.epochMillisOf(treeGet(this, path), fallback);
+    }
+
     /**
      * Retrieves the value to which the specified key is mapped
      *
@@ -1115,6 +1190,21 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return asOpt(type, path).orElse(null);
     }
 
+    /**
+     * Retrieves the value to which the specified key is mapped, and attempts to
+     * convert it to the specified type using the conversions of the given registry
+     * instead of the global one.
+     *
+     * @param <R>      The target type for conversion.
+     * @param registry the {@link ConversionRegistry} snapshot providing the conversions.
+     * @param type     the Class object of the type to convert to.
+     * @param path     the key whose associated value is to be returned.
+     * @return the value if present and convertible, else null.
+     */
+    default <R> R as(final ConversionRegistry registry, final Class<R> type, final Object... path) {
+        return convertObj(treeGet(this, path), type, registry);
+    }
+
     /**
      * Fluent type-check if the current {@link TypeInfo} is a {@link TypeMapI}
      *
@@ -1204,6 +1294,34 @@ public interface TypeInfo<C extends TypeInfo<C>> {
         return collectionOf(treeGet(this, path), output, itemType);
     }
 
+    /**
+     * Parallel variant of {@link #asList(Class, Object...)} for large lists and arrays,
+     * see {@link TypeConverter#collectionOfParallel(Object, Supplier, Class)}.
+     *
+     * @param itemType The class of the items in the list.
+     * @param path     The key whose associated value is to be returned.
+     * @param <E>      The type of elements in the list.
+     * @return a list of the specified type in the original order, not convertible items are skipped.
+     */
+    default <E> List<E> asListParallel(final Class<E> itemType, final Object... path) {
+        return asListParallel(ArrayList::new, itemType, path);
+    }
+
+    /**
+     * Parallel variant of {@link #asList(Supplier, Class, Object...)} for large lists and arrays,
+     * see {@link TypeConverter#collectionOfParallel(Object, Supplier, Class)}.
+     *
+     * @param output   The supplier for the target collection.
+     * @param itemType The class of the items in the list.
+     * @param path     The key whose associated value is to be returned.
+     * @param <T>      The type of the target collection.
+     * @param <E>      The type of elements in the list.
+     * @return a collection of the specified type in the original order, not convertible items are skipped.
+     */
+    default <T extends Collection<E>, E> T asListParallel(final Supplier<? extends T> output, final Class<E> itemType, final Object... path) {
+        return collectionOfParallel(treeGet(this, path), output, itemType);
+    }
+
     /**
      * Retrieves a map of a specific type associated with the specified key.
      * This method converts the retrieved map to a map of the specified key and value types.
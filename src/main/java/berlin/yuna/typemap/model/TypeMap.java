@@ -15,12 +15,11 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import static berlin.yuna.typemap.logic.TypeConverter.iterateOverArray;
+import static berlin.yuna.typemap.logic.TypeConverter.arrayGet;
+import static berlin.yuna.typemap.logic.TypeConverter.arrayLength;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
@@ -411,14 +410,7 @@ public class TypeMap extends HashMap<Object, Object> implements TypeMapI<TypeMap
                     ).map(o -> o instanceof final Map.Entry<?, ?> entry ? entry.getValue() : o).findFirst().orElse(null);
                 }
             } else if (value.getClass().isArray()) {
-                final int index = key instanceof final Number num ? num.intValue() : -1;
-                final AtomicInteger itemCount = new AtomicInteger(0);
-                final AtomicReference<Object> result = new AtomicReference<>(null);
-                iterateOverArray(value, item -> {
-                    if (result.get() == null && (index > -1 ? index == itemCount.getAndIncrement() : Objects.equals(item, key)))
-                        result.set(item);
-                });
-                return result.get();
+                value = key instanceof final Number num ? arrayGet(value, num.intValue()) : arrayFind(value, key);
             } else if (value instanceof final Type<?> type) {
                 value = type.value();
             } else if (value instanceof final Optional<?> optional) {
@@ -432,6 +424,16 @@ public class TypeMap extends HashMap<Object, Object> implements TypeMapI<TypeMap
         return value;
     }
 
+    private static Object arrayFind(final Object array, final Object key) {
+        for (int i = 0; i < arrayLength(array); i++) {
+            final Object item = arrayGet(array, i);
+            if (Objects.equals(item, key)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
     @SuppressWarnings("unchecked")
     public static <K, V, M extends Map<K, V>> M convertAndMap(final Object input, final Supplier<M> output, final Class<K> keyType, final Class<V> valueType) {
         if (output != null && keyType != null && valueType != null && input instanceof Map<?, ?>) {
@@ -1,11 +1,20 @@
 package berlin.yuna.typemap.config;
 
+import berlin.yuna.typemap.logic.JsonLenientParser;
+import berlin.yuna.typemap.logic.NumberParser;
+import berlin.yuna.typemap.logic.TemporalCodec;
 import berlin.yuna.typemap.model.TestEnum;
+import berlin.yuna.typemap.model.TypeMap;
+import berlin.yuna.typemap.model.UnknownClass;
+import berlin.yuna.typemap.model.UnknownNumber;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.*;
@@ -16,6 +25,9 @@ import java.sql.Timestamp;
 import java.time.*;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -26,6 +38,7 @@ import static berlin.yuna.typemap.config.TypeConversionRegister.*;
 import static berlin.yuna.typemap.logic.TypeConverter.convertObj;
 import static berlin.yuna.typemap.model.TypeMapTest.TEST_TIME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TypeConversionRegisterTest {
 
@@ -33,11 +46,12 @@ class TypeConversionRegisterTest {
     void setUp() {
         System.getProperties().setProperty("user.timezone", "UTC");
         TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
     }
 
     @AfterEach
     void tearDown() {
-        registerTypeConvert(String.class, Integer.class, Integer::valueOf);
+        registerTypeConvert(String.class, Integer.class, NumberParser::integerOf);
     }
 
     @Test
@@ -49,6 +63,263 @@ class TypeConversionRegisterTest {
         assertThat(convertObj("123", Integer.class)).isEqualTo(567);
     }
 
+    @Test
+    void conversionPlanIsCachedUntilNextRegistration() {
+        final Object plan = conversionPlanOf(String.class, Integer.class);
+        assertThat(conversionPlanOf(String.class, Integer.class)).isSameAs(plan);
+        assertThat(conversionPlanOf(UnknownClass.class, Long.class).apply(new UnknownClass())).isNull();
+        assertThat(conversionPlanOf(String.class, UnknownClass.class).apply("AA")).isNull();
+
+        registerTypeConvert(String.class, Integer.class, source -> 999);
+        assertThat(conversionPlanOf(String.class, Integer.class)).isNotSameAs(plan);
+        assertThat(convertObj("123", Integer.class)).isEqualTo(999);
+    }
+
+    @Test
+    void findConverterPrefersMostSpecificType() {
+        assertThat(typeHierarchyOf(Integer.class)).startsWith(Integer.class, Number.class, Comparable.class).endsWith(Serializable.class);
+        assertThat(findConverter(java.sql.Date.class, Long.class).key()).isEqualTo(java.sql.Date.class);
+        assertThat(findConverter(Timestamp.class, Long.class).key()).isEqualTo(Timestamp.class);
+        assertThat(findConverter(AtomicInteger.class, Long.class).key()).isEqualTo(Number.class);
+        assertThat(findConverter(IllegalStateException.class, String.class).key()).isEqualTo(Throwable.class);
+        assertThat(findConverter(UnknownClass.class, Long.class)).isNull();
+
+        registerTypeConvert(Comparable.class, Marker.class, source -> new Marker("comparable"));
+        registerTypeConvert(Number.class, Marker.class, source -> new Marker("number"));
+        assertThat(findConverter(Integer.class, Marker.class).key()).isEqualTo(Number.class);
+        assertThat(convertObj(1, Marker.class).name()).isEqualTo("number");
+        assertThat(convertObj("1", Marker.class).name()).isEqualTo("comparable");
+    }
+
+    @Test
+    void conversionPathChainsRegisteredConverters() {
+        final long timestamp = 1800000000000L;
+        assertThat(conversionPathOf(AtomicLong.class, OffsetDateTime.class)).containsExactly(AtomicLong.class, Long.class, OffsetDateTime.class);
+        assertThat(conversionPathOf(Long.class, Instant.class)).containsExactly(Long.class, Instant.class);
+        assertThat(conversionPathOf(UnknownClass.class, Long.class)).isEmpty();
+        assertThat(convertObj(new AtomicLong(timestamp), OffsetDateTime.class)).isEqualTo(convertObj(timestamp, OffsetDateTime.class));
+        assertThat(convertObj(new UnknownNumber(), Long.class)).isEqualTo(123L);
+    }
+
+    @Test
+    void conversionPathSkipsLossyConverters() {
+        // Number -> Long truncates and LocalTime -> Long ignores its input
+        assertThat(conversionPathOf(Double.class, Instant.class)).isEmpty();
+        assertThat(conversionPathOf(LocalTime.class, BigDecimal.class)).isEmpty();
+        assertThat(convertObj(1.9, Instant.class)).isNull();
+        assertThat(convertObj(LocalTime.of(10, 15), BigDecimal.class)).isNull();
+    }
+
+    @Test
+    void conversionPathPrefersCheapestChain() {
+        final ConversionRegistry registry = ConversionRegistry.empty()
+            .with(AtomicInteger.class, Integer.class, AtomicInteger::get, 1)
+            .with(Integer.class, Long.class, Integer::longValue, 1)
+            .with(AtomicInteger.class, Long.class, AtomicInteger::longValue, 5);
+        assertThat(registry.conversionPathOf(AtomicInteger.class, Long.class)).containsExactly(AtomicInteger.class, Integer.class, Long.class);
+        assertThat(registry.with(AtomicInteger.class, Integer.class, AtomicInteger::get).conversionPathOf(AtomicInteger.class, Long.class)).containsExactly(AtomicInteger.class, Long.class);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void typeConversionsForwardsWrites() {
+        TYPE_CONVERSIONS.computeIfAbsent(Legacy.class, target -> new HashMap<>()).put(String.class, source -> new Legacy("computed"));
+        assertThat(convertObj("x", Legacy.class)).isEqualTo(new Legacy("computed"));
+
+        TYPE_CONVERSIONS.get(Legacy.class).put(String.class, source -> new Legacy("put"));
+        assertThat(convertObj("x", Legacy.class)).isEqualTo(new Legacy("put"));
+        assertThat(TYPE_CONVERSIONS.get(Legacy.class)).containsOnlyKeys(String.class);
+
+        TYPE_CONVERSIONS.put(Legacy.class, Map.of(Integer.class, source -> new Legacy("number")));
+        assertThat(convertObj(1, Legacy.class)).isEqualTo(new Legacy("number"));
+        assertThat(convertObj("x", Legacy.class)).isEqualTo(new Legacy("put"));
+        assertThatThrownBy(() -> TYPE_CONVERSIONS.remove(Legacy.class)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void conversionRegistrySnapshotsAreIsolated() {
+        final ConversionRegistry before = conversionRegistry();
+        final ConversionRegistry isolated = before.with(String.class, Integer.class, source -> 42);
+
+        assertThat(convertObj("123", Integer.class, isolated)).isEqualTo(42);
+        assertThat(convertObj("123", Integer.class, before)).isEqualTo(123);
+        assertThat(convertObj("123", Integer.class)).isEqualTo(123);
+        assertThat(new TypeMap().putR("key", "123").as(isolated, Integer.class, "key")).isEqualTo(42);
+        assertThat(convertObj(123L, Integer.class, ConversionRegistry.empty())).isNull();
+        assertThat(before.conversions()).isEqualTo(TYPE_CONVERSIONS);
+
+        registerTypeConvert(String.class, Integer.class, source -> 999);
+        assertThat(convertObj("123", Integer.class, before)).isEqualTo(123);
+        assertThat(convertObj("123", Integer.class)).isEqualTo(999);
+
+        assertThat(conversionRegistry(isolated)).isNotSameAs(before);
+        assertThat(convertObj("123", Integer.class)).isEqualTo(42);
+        conversionRegistry(before);
+        assertThat(convertObj("123", Integer.class)).isEqualTo(123);
+    }
+
+    @Test
+    void conversionRegistryClock() {
+        final Instant now = Instant.parse("2024-01-15T10:00:00Z");
+        final ConversionRegistry tokyo = conversionRegistry().withClock(Clock.fixed(now, ZoneId.of("Asia/Tokyo")));
+
+        assertThat(tokyo.zone()).isEqualTo(ZoneId.of("Asia/Tokyo"));
+        assertThat(convertObj(0L, LocalDateTime.class, tokyo)).isEqualTo(LocalDateTime.of(1970, 1, 1, 9, 0));
+        assertThat(convertObj("0", LocalDateTime.class, tokyo)).isEqualTo(LocalDateTime.of(1970, 1, 1, 9, 0));
+        assertThat(convertObj(new AtomicLong(0), LocalDateTime.class, tokyo)).isEqualTo(LocalDateTime.of(1970, 1, 1, 9, 0));
+        assertThat(convertObj(Instant.EPOCH, OffsetDateTime.class, tokyo)).isEqualTo(OffsetDateTime.of(1970, 1, 1, 9, 0, 0, 0, ZoneOffset.ofHours(9)));
+        assertThat(convertObj("2024-01-15 10:30", Instant.class, tokyo)).isEqualTo(Instant.parse("2024-01-15T01:30:00Z"));
+        assertThat(convertObj("2024-01-15T10:30", Instant.class, tokyo)).isEqualTo(Instant.parse("2024-01-15T01:30:00Z"));
+        assertThat(convertObj("10:30", LocalDateTime.class, tokyo)).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+        assertThat(convertObj(LocalTime.of(8, 0), LocalDateTime.class, tokyo)).isEqualTo(LocalDateTime.of(2024, 1, 15, 8, 0));
+        assertThat(convertObj(LocalTime.NOON, Long.class, tokyo)).isEqualTo(now.toEpochMilli());
+
+        // other snapshots are not affected
+        assertThat(convertObj(0L, LocalDateTime.class)).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+        assertThat(convertObj(0L, LocalDateTime.class, tokyo.withZone(ZoneOffset.ofHours(2)))).isEqualTo(LocalDateTime.of(1970, 1, 1, 2, 0));
+        assertThat(tokyo.withClock(null).zone()).isEqualTo(ZoneId.systemDefault());
+        assertThat(conversionRegistry().clock()).isSameAs(TemporalCodec.defaultClock());
+    }
+
+    @Test
+    void conversionRegistryFollowsDefaultZoneRefresh() {
+        final ConversionRegistry before = conversionRegistry();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+            assertThat(conversionRegistry().zone()).isEqualTo(ZoneId.of("UTC"));
+            assertThat(TemporalCodec.refreshDefaultZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+            assertThat(before.zone()).isEqualTo(ZoneId.of("UTC"));
+            assertThat(conversionRegistry().zone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+            assertThat(conversionRegistry().clock()).isSameAs(TemporalCodec.defaultClock());
+            assertThat(convertObj(0L, LocalDateTime.class)).isEqualTo(LocalDateTime.of(1970, 1, 1, 1, 0));
+
+            // a registry with its own clock keeps it
+            conversionRegistry(conversionRegistry().withZone(ZoneId.of("Asia/Tokyo")));
+            TimeZone.setDefault(null);
+            assertThat(TemporalCodec.refreshDefaultZone()).isEqualTo(ZoneId.of("UTC"));
+            assertThat(conversionRegistry().zone()).isEqualTo(ZoneId.of("Asia/Tokyo"));
+        } finally {
+            TimeZone.setDefault(null);
+            TemporalCodec.refreshDefaultZone();
+            conversionRegistry(before.withClock(null));
+        }
+    }
+
+    @Test
+    void canonicalCache() throws IOException {
+        final ConversionRegistry canonical = conversionRegistry()
+            .withCanonicalCache(Long.class, 64)
+            .withCanonicalCache(UUID.class, 64)
+            .withCanonicalCache(String.class, 64);
+        final UUID id = UUID.randomUUID();
+
+        final Long first = convertObj("1234567", Long.class, canonical);
+        final Long second = convertObj(new StringBuilder("1234567"), Long.class, canonical);
+        final UUID firstId = convertObj(id.toString(), UUID.class, canonical);
+        final UUID secondId = convertObj(id.toString(), UUID.class, canonical);
+        assertThat(first).isEqualTo(1234567L).isSameAs(second);
+        assertThat(firstId).isEqualTo(id).isSameAs(secondId);
+        assertThat(convertObj("1234567", Long.class)).isNotSameAs(convertObj("1234567", Long.class));
+        assertThat(canonical.canonicalCacheOf(Long.class).hits()).isPositive();
+        assertThat(canonical.withClock(null).canonicalCacheOf(Long.class)).isSameAs(canonical.canonicalCacheOf(Long.class));
+        assertThat(canonical.withCanonicalCache(Long.class, 0).canonicalCacheOf(Long.class)).isNull();
+        assertThat(conversionRegistry().canonicalCacheOf(String.class)).isNull();
+
+        // parsed JSON shares keys, strings and numbers
+        final String json = "[{\"status\":\"ACTIVE\",\"count\":1234567},{\"status\":\"ACTIVE\",\"count\":1234567}]";
+        final List<?> rows = (List<?>) JsonLenientParser.parseValue(new JsonLenientParser.LenientStream(new StringReader(json), JsonLenientParser.Options.LENIENT.withRegistry(canonical)));
+        final Map<?, ?> firstRow = (Map<?, ?>) rows.get(0);
+        final Map<?, ?> secondRow = (Map<?, ?>) rows.get(1);
+        assertThat(firstRow.get("status")).isEqualTo("ACTIVE").isSameAs(secondRow.get("status"));
+        assertThat(firstRow.get("count")).isSameAs(first).isSameAs(secondRow.get("count"));
+        assertThat(firstRow.keySet().iterator().next()).isSameAs(secondRow.keySet().iterator().next());
+
+        // bounded with clock eviction, recently used values survive
+        final CanonicalCache<String> cache = new CanonicalCache<>(String.class, 1);
+        final String kept = cache.canonical(new StringBuilder("kept"));
+        assertThat(cache.canonical("kept")).isSameAs(kept);
+        for (int i = 0; i < 20; i++) {
+            cache.canonical("value" + i);
+        }
+        assertThat(cache.capacity()).isEqualTo(CanonicalCache.WAYS);
+        assertThat(cache.size()).isEqualTo(CanonicalCache.WAYS);
+        assertThat(new CanonicalCache<>(Long.class, 100).capacity()).isEqualTo(128);
+        assertThat(cache.canonical("x".repeat(CanonicalCache.MAX_STRING_LENGTH + 1))).isNotSameAs(cache.canonical("x".repeat(CanonicalCache.MAX_STRING_LENGTH + 1)));
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+    }
+
+    @Test
+    void conversionMetrics() {
+        final ConversionMetrics metrics = new ConversionMetrics();
+        final ConversionRegistry metered = conversionRegistry()
+            .withMetrics(metrics)
+            .with(String.class, Marker.class, source -> {
+                throw new IllegalStateException(source);
+            });
+
+        assertThat(convertObj("123", Integer.class, metered)).isEqualTo(123);
+        assertThat(convertObj("abc", Integer.class, metered)).isNull();
+        assertThat(convertObj("abc", Marker.class, metered)).isNull();
+        assertThat(convertObj(new UnknownNumber(), Long.class, metered)).isEqualTo(123L);
+        assertThat(convertObj(new AtomicLong(1800000000000L), OffsetDateTime.class, metered)).isNotNull();
+        assertThat(convertObj(123, Integer.class, metered)).isEqualTo(123);
+
+        final ConversionMetrics.Stats integers = metrics.statsOf(String.class, Integer.class);
+        final ConversionMetrics.Stats markers = metrics.statsOf(String.class, Marker.class);
+        final ConversionMetrics.Stats fallbacks = metrics.statsOf(UnknownNumber.class, Long.class);
+        assertThat(integers.calls()).isEqualTo(2);
+        assertThat(integers.nulls()).isEqualTo(1);
+        assertThat(integers.exceptions()).isZero();
+        assertThat(integers.nanos()).isPositive();
+        assertThat(markers.exceptions()).isEqualTo(1);
+        assertThat(markers.nulls()).isEqualTo(1);
+        assertThat(fallbacks.fallbacks()).isEqualTo(1);
+        assertThat(metrics.statsOf(AtomicLong.class, OffsetDateTime.class).calls()).isEqualTo(1);
+        assertThat(metrics.statsOf(Integer.class, Integer.class).calls()).isZero();
+        assertThat(metrics.snapshot()).hasSize(5).extracting(ConversionMetrics.Stats::source).contains(String.class, UnknownNumber.class, AtomicLong.class);
+
+        // disabled registries keep their plans unwrapped
+        assertThat(conversionRegistry().metrics()).isNull();
+        assertThat(metered.withMetrics(null).metrics()).isNull();
+        assertThat(metered.withClock(null).metrics()).isSameAs(metrics);
+        convertObj("123", Integer.class);
+        assertThat(metrics.statsOf(String.class, Integer.class).calls()).isEqualTo(2);
+
+        metrics.reset();
+        assertThat(metrics.snapshot()).isEmpty();
+        assertThat(convertObj("123", Integer.class, metered)).isEqualTo(123);
+        assertThat(metrics.snapshot()).hasSize(1);
+    }
+
+    @Test
+    void exactNumbersRegistry() {
+        final ConversionRegistry exact = exactNumbers(conversionRegistry());
+
+        // default conversions truncate
+        assertThat(convertObj(Long.MAX_VALUE, Integer.class)).isEqualTo(-1);
+        assertThat(convertObj(1.5d, Long.class)).isEqualTo(1L);
+        assertThat(convertObj(Long.MAX_VALUE, BigDecimal.class)).isNotEqualTo(new BigDecimal(Long.MAX_VALUE));
+
+        assertThat(convertObj(Long.MAX_VALUE, Integer.class, exact)).isNull();
+        assertThat(convertObj(1.5d, Long.class, exact)).isNull();
+        assertThat(convertObj(2.0d, Long.class, exact)).isEqualTo(2L);
+        assertThat(convertObj(Long.MAX_VALUE, BigDecimal.class, exact)).isEqualTo(new BigDecimal(Long.MAX_VALUE));
+        assertThat(convertObj(7, BigDecimal.class, exact)).isEqualTo(BigDecimal.valueOf(7));
+        assertThat(convertObj(new BigDecimal("12.50"), Long.class, exact)).isNull();
+        assertThat(convertObj(new BigDecimal("12.00"), Long.class, exact)).isEqualTo(12L);
+        assertThat(convertObj(BigInteger.TEN.pow(20), Long.class, exact)).isNull();
+        assertThat(convertObj(BigInteger.TEN.pow(20), BigDecimal.class, exact)).isEqualTo(new BigDecimal("100000000000000000000"));
+        assertThat(convertObj(Long.MAX_VALUE, AtomicInteger.class, exact)).isNull();
+        assertThat(convertObj(new AtomicLong(5), Short.class, exact)).isEqualTo((short) 5);
+
+        // strings and other conversions are untouched
+        assertThat(convertObj("123", Integer.class, exact)).isEqualTo(123);
+        assertThat(convertObj(1, Boolean.class, exact)).isTrue();
+    }
+
     @Test
     void registerCustomConversionThrowingException() {
         assertThat(convertObj("123", Integer.class)).isEqualTo(123);
@@ -488,4 +759,10 @@ class TypeConversionRegisterTest {
         final Calendar cal = TypeConversionRegister.calendarOf(d);
         assertThat(cal.getTimeInMillis()).isEqualTo(123456789L);
     }
+
+    private record Marker(String name) {
+    }
+
+    private record Legacy(String name) {
+    }
 }
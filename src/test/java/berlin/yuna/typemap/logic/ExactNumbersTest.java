@@ -0,0 +1,90 @@
+package berlin.yuna.typemap.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import static berlin.yuna.typemap.logic.ExactNumbers.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExactNumbersTest {
+
+    @Test
+    void integralTest() {
+        assertThat(longOf(Long.MAX_VALUE)).isEqualTo(Long.MAX_VALUE);
+        assertThat(longOf(new AtomicLong(42))).isEqualTo(42L);
+        assertThat(longOf(2.0d)).isEqualTo(2L);
+        assertThat(longOf(-0x1p63)).isEqualTo(Long.MIN_VALUE);
+        assertThat(longOf(0x1p63)).isNull();
+        assertThat(longOf(1.5d)).isNull();
+        assertThat(longOf(Double.NaN)).isNull();
+        assertThat(longOf(new BigDecimal("12.000"))).isEqualTo(12L);
+        assertThat(longOf(new BigDecimal("1E+3"))).isEqualTo(1000L);
+        assertThat(longOf(new BigDecimal("9223372036854775807"))).isEqualTo(Long.MAX_VALUE);
+        assertThat(longOf(new BigDecimal("9223372036854775808"))).isNull();
+        assertThat(longOf(new BigDecimal("1E+1000000"))).isNull();
+        assertThat(longOf(new BigDecimal("0.1"))).isNull();
+        assertThat(longOf(BigInteger.TWO.pow(63))).isNull();
+        assertThat(longOf(BigInteger.TWO.pow(63).negate())).isEqualTo(Long.MIN_VALUE);
+        assertThat(longOf((Number) null)).isNull();
+
+        assertThat(integerOf(Integer.MAX_VALUE + 1L)).isNull();
+        assertThat(integerOf(Integer.MIN_VALUE)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(integerOf(1e9)).isEqualTo(1_000_000_000);
+        assertThat(shortOf(32768)).isNull();
+        assertThat(shortOf(-32768)).isEqualTo(Short.MIN_VALUE);
+        assertThat(byteOf(128)).isNull();
+        assertThat(byteOf(new BigDecimal("-128.0"))).isEqualTo(Byte.MIN_VALUE);
+
+        assertThat(toLong(1.5d, -1L)).isEqualTo(-1L);
+        assertThat(toLong(Long.MIN_VALUE, -1L)).isEqualTo(Long.MIN_VALUE);
+        assertThat(toInt(Long.MAX_VALUE, -1)).isEqualTo(-1);
+        assertThat(toInt((short) 7, -1)).isEqualTo(7);
+    }
+
+    @Test
+    void floatingTest() {
+        assertThat(doubleOf(1L << 53)).isEqualTo(0x1p53);
+        assertThat(doubleOf((1L << 53) + 1)).isNull();
+        assertThat(doubleOf(Long.MAX_VALUE)).isNull();
+        assertThat(doubleOf(Long.MIN_VALUE)).isEqualTo(-0x1p63);
+        assertThat(doubleOf(new BigDecimal("0.1"))).isEqualTo(0.1d);
+        assertThat(doubleOf(new BigDecimal("0.10000000000000000001"))).isNull();
+        assertThat(doubleOf(new BigDecimal("1E+400"))).isNull();
+        assertThat(doubleOf(BigInteger.TWO.pow(80))).isEqualTo(0x1p80);
+        assertThat(doubleOf(BigInteger.TWO.pow(80).add(BigInteger.ONE))).isNull();
+        assertThat(doubleOf(Float.NaN)).isNaN();
+        assertThat(doubleOf(new DoubleAdder())).isEqualTo(0d);
+
+        assertThat(floatOf(0.5d)).isEqualTo(0.5f);
+        assertThat(floatOf(0.1d)).isNull();
+        assertThat(floatOf(new BigDecimal("0.1"))).isEqualTo(0.1f);
+        assertThat(floatOf(1 << 24)).isEqualTo(0x1p24f);
+        assertThat(floatOf((1 << 24) + 1)).isNull();
+
+        assertThat(toDouble(Long.MAX_VALUE, -1d)).isEqualTo(-1d);
+        assertThat(toDouble(new BigDecimal("2.5"), -1d)).isEqualTo(2.5d);
+    }
+
+    @Test
+    void bigNumberTest() {
+        // integral values keep scale 0, decimals don't pass a double
+        final BigDecimal fromLong = bigDecimalOf(Long.MAX_VALUE);
+        final BigDecimal fromBigInteger = bigDecimalOf(BigInteger.TEN.pow(30));
+        assertThat(fromLong).isEqualTo(new BigDecimal("9223372036854775807"));
+        assertThat(fromBigInteger).isEqualTo(new BigDecimal("1000000000000000000000000000000"));
+        assertThat(bigDecimalOf(0.1d)).isEqualTo(new BigDecimal("0.1"));
+        assertThat(bigDecimalOf(0.1f)).isEqualTo(new BigDecimal("0.1"));
+        assertThat(bigDecimalOf(Double.POSITIVE_INFINITY)).isNull();
+
+        assertThat(bigIntegerOf(new BigDecimal("100.00"))).isEqualTo(BigInteger.valueOf(100));
+        assertThat(bigIntegerOf(new BigDecimal("100.01"))).isNull();
+        assertThat(bigIntegerOf(1e20)).isEqualTo(BigInteger.TEN.pow(20));
+        assertThat(bigIntegerOf(0.5f)).isNull();
+        assertThat(bigIntegerOf(Double.NaN)).isNull();
+        assertThat(bigIntegerOf(Long.MIN_VALUE)).isEqualTo(BigInteger.valueOf(Long.MIN_VALUE));
+    }
+}
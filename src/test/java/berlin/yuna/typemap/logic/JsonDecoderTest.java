@@ -9,13 +9,19 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
@@ -119,6 +125,163 @@ class JsonDecoderTest {
         }
     }
 
+    @Test
+    void shouldParseUtf8BytesLikeReader() throws Exception {
+        final String longText = "x".repeat(20000) + "\u00fc";
+        final List<String> inputs = List.of(
+            COMPLEX_JSON,
+            "{\"\u043a\u043b\u044e\u0447\":\"\u00e9 \ud83d\ude00 \\u00a9\\n\", \"list\":[1.5e3,-2,true,null,\"\"],}",
+            "{\u043a\u043b\u044e\u0447 : \ud83d\ude00a, b:1}",
+            "[\"" + longText + "\", \"a\\\"b\"]",
+            "[1, 2",
+            "{\"a\" x}",
+            " {} "
+        );
+        for (final String input : inputs) {
+            final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+            final Object expected = JsonLenientParser.parse(new StringReader(input));
+            final Object actual = JsonLenientParser.parse(new ByteArrayInputStream(bytes));
+            // one byte per read splits every multibyte character and string
+            final Object chunked = JsonLenientParser.parse(new FilterInputStream(new ByteArrayInputStream(bytes)) {
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    return super.read(b, off, Math.min(len, 1));
+                }
+            });
+            assertThat(actual).isEqualTo(expected).isEqualTo(chunked);
+        }
+
+        final Object parsed = JsonLenientParser.parse(new ByteArrayInputStream(inputs.get(3).getBytes(StandardCharsets.UTF_8)));
+        assertThat(parsed).isInstanceOf(TypeList.class);
+        assertThat(((TypeList) parsed).get(0)).isEqualTo(longText);
+        // malformed input falls back to the raw text once, without re-read characters
+        assertThat(JsonLenientParser.parse(new ByteArrayInputStream("[1, 2".getBytes(StandardCharsets.UTF_8)))).isEqualTo("[1, 2");
+        assertThat(JsonLenientParser.parse(new StringReader("[1, 2"))).isEqualTo("[1, 2");
+    }
+
+    @Test
+    void shouldParseCharSequencesWithoutEncoding() throws Exception {
+        final String json = "{\"name\":\"n\u00e9o \ud83d\ude00\",\"escaped\":\"a\\\"b\\u00a9\",\"list\":[1,2.5,true,null],}";
+        final LinkedTypeMap expected = JsonDecoder.mapOf(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(JsonDecoder.mapOf(json)).isEqualTo(expected).containsEntry("escaped", "a\"b\u00a9");
+        assertThat(JsonDecoder.mapOf(new StringBuilder(json))).isEqualTo(expected);
+        assertThat(JsonDecoder.mapOf(CharBuffer.wrap(json.toCharArray()))).isEqualTo(expected);
+        assertThat(JsonDecoder.listOf(CharBuffer.wrap(("[" + json + "]").toCharArray()))).containsExactly(expected);
+        assertThat(JsonDecoder.jsonOf(" <a>b</a>")).isEqualTo(JsonDecoder.jsonOf(new ByteArrayInputStream(" <a>b</a>".getBytes(StandardCharsets.UTF_8))));
+        assertThat(JsonDecoder.jsonOf("  ")).isNull();
+        assertThat(JsonLenientParser.parse((CharSequence) "{\"a\":\"b")).isEqualTo("{\"a\":\"b");
+        try (final Stream<Pair<Object, Object>> stream = JsonDecoder.streamJson(CharBuffer.wrap("[1,2]".toCharArray()))) {
+            assertThat(stream.map(Pair::value).toList()).containsExactly(1L, 2L);
+        }
+    }
+
+    @Test
+    void shouldParseMappedFiles() throws Exception {
+        final String json = "[" + ("{\"id\":1,\"name\":\"n\u00e9o \ud83d\ude00 " + "x".repeat(200) + "\",\"tags\":[\"a\\\"b\",true]},").repeat(50) + "null]";
+        final Path file = Files.createTempFile("mapped-json", ".json");
+        final Path xml = Files.createTempFile("mapped-xml", ".xml");
+        Files.writeString(file, "  \n" + json, StandardCharsets.UTF_8);
+        Files.writeString(xml, " <a><b>c</b></a>", StandardCharsets.UTF_8);
+        final TypeList expected = JsonDecoder.listOf(json);
+
+        assertThat(JsonDecoder.listOf(file)).isEqualTo(expected).hasSize(51);
+        assertThat(JsonDecoder.listOf(file.toFile())).isEqualTo(expected);
+        assertThat(JsonDecoder.mapOf(file)).containsEntry("", expected);
+        try (final Stream<Pair<Integer, Object>> stream = JsonDecoder.streamJsonArray(file)) {
+            assertThat(stream.map(Pair::value).toList()).isEqualTo(expected);
+        }
+        assertThat(JsonDecoder.listOf(xml)).isEqualTo(JsonDecoder.listOf(" <a><b>c</b></a>")).isNotEmpty();
+
+        // tiny windows remap many times and grow for strings longer than the window
+        try (final FileChannel channel = FileChannel.open(file)) {
+            final Object result = JsonLenientParser.parse(new JsonLenientParser.Utf8Stream(channel, 3, 16, JsonLenientParser.Options.LENIENT));
+            assertThat(result).isEqualTo(expected);
+        }
+        Files.delete(file);
+        Files.delete(xml);
+    }
+
+    @Test
+    void shouldParseWithoutRawText() throws Exception {
+        final String json = "{\"a\":[1,{}],\"b\":\"c\",}";
+        final JsonLenientParser.Options noRaw = JsonLenientParser.Options.LENIENT.withRawLimit(0);
+        final Object expected = JsonLenientParser.parse(json);
+
+        assertThat(JsonLenientParser.parse(json, noRaw)).isEqualTo(expected);
+        assertThat(JsonLenientParser.parse(new StringReader(json), noRaw)).isEqualTo(expected);
+        assertThat(JsonLenientParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), noRaw)).isEqualTo(expected);
+
+        // malformed input returns its raw text up to the limit
+        assertThat(JsonLenientParser.parse("[1, 2")).isEqualTo("[1, 2");
+        assertThat(JsonLenientParser.parse("[1, 2", JsonLenientParser.Options.LENIENT.withRawLimit(3))).isEqualTo("[1,");
+        assertThat(JsonLenientParser.parse("[1, 2", noRaw)).isNull();
+        assertThat(JsonLenientParser.parse(new StringReader("{\"a\":1"), noRaw)).isNull();
+        assertThat(JsonLenientParser.parse(new ByteArrayInputStream("[1 2]".getBytes(StandardCharsets.UTF_8)), noRaw)).isNull();
+    }
+
+    @Test
+    void shouldParseStrict() throws Exception {
+        final String json = "{\"a\":[1,{},[]],\"b\":\"c\",\"d\":null,\"e\":-1.5e3,\"f\":true}";
+        final JsonLenientParser.Options strict = JsonLenientParser.Options.STRICT;
+        final Object expected = JsonLenientParser.parse(json);
+
+        assertThat(JsonLenientParser.parse(json, strict)).isEqualTo(expected);
+        assertThat(JsonLenientParser.parse(new StringReader(json), strict)).isEqualTo(expected);
+        assertThat(JsonLenientParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), strict)).isEqualTo(expected);
+        assertThat(JsonLenientParser.parse("{}", strict)).isEqualTo(new LinkedTypeMap());
+        assertThat(JsonLenientParser.parse("{\"\":1}", strict)).isEqualTo(new LinkedTypeMap().putR("", 1L));
+        assertThat(JsonLenientParser.parse("{}")).isNull();
+    }
+
+    @Test
+    void shouldRejectLenientSyntaxInStrictMode() throws Exception {
+        final JsonLenientParser.Options strict = JsonLenientParser.Options.STRICT;
+        for (final String invalid : new String[]{
+            "{a:1}",                // unquoted key
+            "{\"a\":abc}",           // unquoted value
+            "[1.5f]",               // lenient number
+            "[+1]",                 // lenient number
+            "[1,2,]",               // trailing comma in array
+            "{\"a\":1,}",            // trailing comma in object
+            "{\"a\"}",               // key-only object
+            "{\"a\",\"b\":1}",       // key-only entry
+            "[1, 2",                // unterminated array
+            "{\"a\":1",              // unterminated object
+            "[1 2]",                // missing separator
+        }) {
+            assertThat(JsonLenientParser.parse(invalid)).as(invalid).isNotNull();
+            assertThatThrownBy(() -> JsonLenientParser.parse(invalid, strict)).as(invalid).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> JsonLenientParser.parse(new StringReader(invalid), strict)).as(invalid).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> JsonLenientParser.parse(new ByteArrayInputStream(invalid.getBytes(StandardCharsets.UTF_8)), strict)).as(invalid).isInstanceOf(IllegalStateException.class);
+        }
+        // a JSON string value is no longer mistaken for malformed input
+        assertThatThrownBy(() -> JsonLenientParser.parse("abc", strict)).isInstanceOf(IllegalStateException.class);
+        assertThat(JsonLenientParser.parse("\"abc\"", strict)).isEqualTo("abc");
+    }
+
+    @Test
+    void shouldParseNumbersFromTokens() throws Exception {
+        final String json = "[0,-7,1.5,-2.5e3,9223372036854775807,9223372036854775808,1.5f,+1,-,true,false,null,abc]";
+        final TypeList lenient = (TypeList) JsonLenientParser.parse(json);
+        final TypeList exact = (TypeList) JsonLenientParser.parse(new StringReader(json), JsonLenientParser.Options.LENIENT.withExact(true));
+
+        assertThat(lenient).containsExactly(0L, -7L, 1.5d, -2500d, Long.MAX_VALUE, "9223372036854775808", 1.5d, 1L, "-", true, false, null, "abc");
+        assertThat(exact).containsExactly(0L, -7L, new BigDecimal("1.5"), new BigDecimal("-2.5e3"), Long.MAX_VALUE, new BigDecimal("9223372036854775808"), 1.5d, 1L, "-", true, false, null, "abc");
+        assertThat(JsonLenientParser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))).isEqualTo(lenient);
+    }
+
+    @Test
+    void shouldKeepHugeExponentsExact() throws Exception {
+        final JsonLenientParser.Options exact = JsonLenientParser.Options.LENIENT.withExact(true);
+
+        assertThat(JsonLenientParser.parse("[1e100000,-2e-100000]", exact)).isEqualTo(List.of(new BigDecimal("1e100000"), new BigDecimal("-2e-100000")));
+        assertThat(JsonLenientParser.parse("[1e99999999999]", exact)).isInstanceOf(String.class);
+        assertThat(JsonLenientParser.parse("[1e99999999999]", exact.withRawLimit(0))).isNull();
+        assertThatThrownBy(() -> JsonLenientParser.parse("[1e99999999999]", exact.withStrict(true))).isInstanceOf(IllegalStateException.class);
+        assertThat(JsonLenientParser.parse("[1e99999999999]")).isEqualTo(List.of(Double.POSITIVE_INFINITY));
+    }
+
     @Test
     void shouldHandleInvalidEscapesAsUnchecked() {
         final String invalid = "{\"msg\":\"bad\\u00\"}";
@@ -394,6 +557,36 @@ class JsonDecoderTest {
         assertThat(count.get()).isEqualTo(4000);
     }
 
+    /**
+     * Compares the lenient and the strict mode on a ~1 MB array, best of 10 (-Dperf=true). Second rounds after
+     * warm-up stay within noise of each other across runs, e.g. lenient chars=160.6MB/s utf8=133.2MB/s reader=19.6MB/s
+     * and strict chars=171.8MB/s utf8=138.8MB/s reader=19.3MB/s. The raw capture is bounded by the raw limit,
+     * so the strict mode is about rejecting malformed input rather than speed.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "perf", matches = "true")
+    void benchmarkLenientVsStrict() throws Exception {
+        final String payload = largeArrayJson(5000);
+        final byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        for (final JsonLenientParser.Options options : List.of(JsonLenientParser.Options.LENIENT, JsonLenientParser.Options.STRICT, JsonLenientParser.Options.LENIENT, JsonLenientParser.Options.STRICT)) {
+            long chars = Long.MAX_VALUE;
+            long utf8 = Long.MAX_VALUE;
+            long reader = Long.MAX_VALUE;
+            for (int i = 0; i < 10; i++) {
+                long start = System.nanoTime();
+                assertThat(JsonLenientParser.parse(payload, options)).isInstanceOf(TypeList.class);
+                chars = Math.min(chars, System.nanoTime() - start);
+                start = System.nanoTime();
+                assertThat(JsonLenientParser.parse(new ByteArrayInputStream(bytes), options)).isInstanceOf(TypeList.class);
+                utf8 = Math.min(utf8, System.nanoTime() - start);
+                start = System.nanoTime();
+                assertThat(JsonLenientParser.parse(new StringReader(payload), options)).isInstanceOf(TypeList.class);
+                reader = Math.min(reader, System.nanoTime() - start);
+            }
+            System.out.printf("benchmarkLenientVsStrict strict=%s chars=%.1fMB/s utf8=%.1fMB/s reader=%.1fMB/s%n", options.strict(), bytes.length * 1000.0 / chars, bytes.length * 1000.0 / utf8, bytes.length * 1000.0 / reader);
+        }
+    }
+
     private void assertComplex(final Supplier<Stream<Pair<String, Object>>> supplier) {
         final TypeMap data = new TypeMap();
         try (final Stream<Pair<String, Object>> closeable = supplier.get()) {
@@ -22,6 +22,7 @@ class JsonEncoderTest {
     void setUp() {
         System.getProperties().setProperty("user.timezone", "UTC");
         TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
     }
 
     @Test
@@ -0,0 +1,90 @@
+package berlin.yuna.typemap.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static berlin.yuna.typemap.logic.NumberParser.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NumberParserTest {
+
+    @Test
+    void integralTest() {
+        assertThat(integerOf("123")).isEqualTo(123);
+        assertThat(integerOf("+123")).isEqualTo(123);
+        assertThat(integerOf("-2147483648")).isEqualTo(Integer.MIN_VALUE);
+        assertThat(integerOf("2147483648")).isNull();
+        assertThat(integerOf("12a")).isNull();
+        assertThat(integerOf("")).isNull();
+        assertThat(integerOf("-")).isNull();
+        assertThat(integerOf(null)).isNull();
+        assertThat(longOf("-9223372036854775808")).isEqualTo(Long.MIN_VALUE);
+        assertThat(longOf("9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+        assertThat(longOf("-9223372036854775809")).isNull();
+        assertThat(longOf(" 1")).isNull();
+        assertThat(shortOf("-32768")).isEqualTo(Short.MIN_VALUE);
+        assertThat(shortOf("32768")).isNull();
+        assertThat(byteOf("127")).isEqualTo(Byte.MAX_VALUE);
+        assertThat(byteOf("128")).isNull();
+        assertThat(bigIntegerOf("-123456789012345678901234567890")).isEqualTo(new BigInteger("-123456789012345678901234567890"));
+        assertThat(bigIntegerOf("1.0")).isNull();
+        assertThat(parseInt("x42y", 1, 3, -1)).isEqualTo(42);
+        assertThat(parseLong("x42y", 0, 3, -1)).isEqualTo(-1L);
+    }
+
+    @Test
+    void decimalTest() {
+        for (final String valid : new String[]{"1", "-1.5", "+.5", "1.", "1e10", "1E-5", "1.5e+3", "0.1", "123456789.123456789", "4.9e-324", "1e400", " 2.5 ", "2.5f", "3d", "NaN", "-Infinity", "0x1p3", "0x1.8P-1d"}) {
+            assertThat(doubleOf(valid)).as(valid).isEqualTo(Double.valueOf(valid));
+            assertThat(floatOf(valid)).as(valid).isEqualTo(Float.valueOf(valid));
+        }
+        for (final String invalid : new String[]{"", " ", ".", "-", "e5", "1e", "1e+", "1.2.3", "1,5", "1ff", "NaNf", "nan", "0x1", "0x.p1", "--1", "1 2"}) {
+            assertThat(doubleOf(invalid)).as(invalid).isNull();
+            assertThat(floatOf(invalid)).as(invalid).isNull();
+            assertThat(parseDouble(invalid, -1)).as(invalid).isEqualTo(-1d);
+        }
+        assertThat(parseDouble("[1.25]", 1, 5, -1)).isEqualTo(1.25d);
+    }
+
+    @Test
+    void bigDecimalTest() {
+        for (final String valid : new String[]{"1", "-1.50", "+.5", "1.", "1E+3", "1e-2147483647", "12345678901234567890.123"}) {
+            assertThat(bigDecimalOf(valid)).as(valid).isEqualTo(new BigDecimal(valid));
+            assertThat(isBigDecimal(valid)).as(valid).isTrue();
+        }
+        for (final String invalid : new String[]{"", ".", "1e", "1e2147483648", "0.1e-2147483648", "NaN", " 1", "1f"}) {
+            assertThat(bigDecimalOf(invalid)).as(invalid).isNull();
+            assertThat(isBigDecimal(invalid)).as(invalid).isFalse();
+            assertThat(hasFraction(invalid)).as(invalid).isFalse();
+        }
+        assertThat(isBigDecimal(null)).isFalse();
+        for (final String fraction : new String[]{"1.5", "-0.001", "15e-1", "1.05e1", "1e-2147483647"}) {
+            assertThat(hasFraction(fraction)).as(fraction).isEqualTo(new BigDecimal(fraction).stripTrailingZeros().scale() > 0).isTrue();
+        }
+        for (final String integer : new String[]{"1", "1.0", "-0.000", "0.5e1", "150e-1", "1.", "1E+3", "1.23e2"}) {
+            assertThat(hasFraction(integer)).as(integer).isFalse();
+        }
+    }
+
+    @Test
+    void jsonNumberTest() {
+        for (final String valid : new String[]{"0", "-0", "007", "-9223372036854775808", "9223372036854775807"}) {
+            assertThat(numberOf(valid.toCharArray(), 0, valid.length(), false)).as(valid).isEqualTo(Long.valueOf(valid));
+        }
+        for (final String valid : new String[]{"-0.0", "1.5", "1e5", "1E-5", "12.34e+56", "0.30000000000000004", "1234567890123456.7", "4.9e-324", "1e400"}) {
+            assertThat(numberOf(valid.toCharArray(), 0, valid.length(), false)).as(valid).isEqualTo(Double.valueOf(valid));
+            assertThat(numberOf(valid.toCharArray(), 0, valid.length(), true)).as(valid).isEqualTo(new BigDecimal(valid));
+        }
+        for (final String invalid : new String[]{"", "-", "+1", ".5", "1.", "1e", "1e+", "1.2.3", "1x", "0x1F", "1.5f", "NaN", "9223372036854775808"}) {
+            assertThat(numberOf(invalid.toCharArray(), 0, invalid.length(), false)).as(invalid).isNull();
+        }
+        assertThat(numberOf("9223372036854775808".toCharArray(), 0, 19, true)).isEqualTo(new BigDecimal("9223372036854775808"));
+        assertThat(numberOf("1e99999999999".toCharArray(), 0, 13, true)).isNull();
+        assertThat(numberOf("1e100000".toCharArray(), 0, 8, true)).isEqualTo(new BigDecimal("1e100000"));
+        assertThat(numberOf("-1.5e-100000".toCharArray(), 0, 12, true)).isEqualTo(new BigDecimal("-1.5e-100000"));
+        assertThat(numberOf("[1.25]".toCharArray(), 1, 5, false)).isEqualTo(1.25d);
+        assertThat(numberOf("1000".toCharArray(), 0, 4, false)).isSameAs(numberOf("1000".toCharArray(), 0, 4, false));
+    }
+}
@@ -0,0 +1,95 @@
+package berlin.yuna.typemap.logic;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static berlin.yuna.typemap.logic.TemporalCodec.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemporalCodecTest {
+
+    @BeforeEach
+    void setUp() {
+        System.getProperties().setProperty("user.timezone", "UTC");
+        TimeZone.setDefault(null);
+        refreshDefaultZone();
+    }
+
+    @Test
+    void parseTest() {
+        assertThat(zonedDateTimeOf("2024-01-15")).isEqualTo(ZonedDateTime.of(2024, 1, 15, 0, 0, 0, 0, ZoneId.systemDefault()));
+        assertThat(zonedDateTimeOf("2024-01-15T10:30")).isEqualTo(ZonedDateTime.of(2024, 1, 15, 10, 30, 0, 0, ZoneId.systemDefault()));
+        assertThat(zonedDateTimeOf("2024-01-15T10:30:15.123Z")).isEqualTo(ZonedDateTime.of(2024, 1, 15, 10, 30, 15, 123_000_000, ZoneOffset.UTC));
+        assertThat(zonedDateTimeOf("2024-01-15T10:30:15.123456789-02:30")).isEqualTo(ZonedDateTime.of(2024, 1, 15, 10, 30, 15, 123_456_789, ZoneOffset.ofHoursMinutes(-2, -30)));
+        assertThat(offsetDateTimeOf("2024-01-15T10:30+01:00")).isEqualTo(OffsetDateTime.parse("2024-01-15T10:30+01:00"));
+        assertThat(localDateTimeOf("2024-01-15T10:30:15+01:00")).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30, 15));
+        assertThat(instantOf("2024-02-29T23:59:59.999Z")).isEqualTo(Instant.parse("2024-02-29T23:59:59.999Z"));
+        assertThat(epochMillisOf("1970-01-01T00:00:00.001Z", -1)).isEqualTo(1L);
+        assertThat(epochMillisOf("1969-12-31T23:59:59.999Z", -1)).isEqualTo(-1L);
+        assertThat(epochNanosOf("2024-01-15T10:30:15.123456789+01:00", -1)).isEqualTo(1705311015123456789L);
+        assertThat(epochNanosOf("9999-12-31T23:59:59Z", -1)).isEqualTo(-1L);
+
+        // left to the formatters
+        for (final String other : new String[]{"", "2024-1-15", "2024-02-30", "2023-02-29", "2024-01-15 10:30", "2024-01-15t10:30", "2024-01-15T24:00", "2024-01-15T10:60",
+            "2024-01-15T10:30:15.", "2024-01-15T10:30:15.1234567891Z", "2024-01-15T10:30z", "2024-01-15T10:30+0200", "2024-01-15T10:30+19:00", "2024-01-15Z", "2024-01-15T10:30+01:00[Europe/Paris]"}) {
+            assertThat(zonedDateTimeOf(other)).as(other).isNull();
+            assertThat(instantOf(other)).as(other).isNull();
+            assertThat(epochMillisOf(other, -1)).as(other).isEqualTo(-1L);
+        }
+        assertThat(instantOf(null)).isNull();
+    }
+
+    @Test
+    void roundTripTest() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final Instant instant = Instant.ofEpochSecond(Math.floorMod(random.nextLong(), 253402300799L) - 62167219200L, i % 4 == 0 ? 0 : (i % 4 == 1 ? random.nextInt(1000) * 1_000_000 : random.nextInt(1_000_000_000)));
+            final String iso = instant.toString();
+            assertThat(stringOf(instant)).isEqualTo(iso);
+            assertThat(instantOf(iso)).as(iso).isEqualTo(instant);
+            assertThat(epochMillisOf(iso, -1)).as(iso).isEqualTo(instant.toEpochMilli());
+
+            final LocalDateTime local = LocalDateTime.ofInstant(instant, ZoneOffset.UTC).withSecond(i % 3 == 0 ? 0 : instant.atOffset(ZoneOffset.UTC).getSecond());
+            assertThat(stringOf(local)).isEqualTo(local.toString());
+            assertThat(localDateTimeOf(local.toString())).isEqualTo(local);
+
+            final OffsetDateTime offset = instant.atOffset(ZoneOffset.ofTotalSeconds((random.nextInt(36) - 18) * 1800));
+            assertThat(stringOf(offset)).isEqualTo(offset.toString());
+            assertThat(offsetDateTimeOf(offset.toString())).isEqualTo(offset);
+        }
+        assertThat(stringOf(Instant.MAX)).isEqualTo(Instant.MAX.toString());
+        assertThat(stringOf(LocalDateTime.MIN)).isEqualTo(LocalDateTime.MIN.toString());
+    }
+
+    @Test
+    void defaultZoneTest() {
+        assertThat(defaultZone()).isEqualTo(ZoneId.of("UTC"));
+        assertThat(localDateTimeOf(0L)).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+
+        // the default zone is cached until refreshed
+        System.getProperties().setProperty("user.timezone", "Europe/Berlin");
+        TimeZone.setDefault(null);
+        assertThat(defaultZone()).isEqualTo(ZoneId.of("UTC"));
+        assertThat(refreshDefaultZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(defaultZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(defaultRules()).isEqualTo(ZoneId.of("Europe/Berlin").getRules());
+        assertThat(localDateTimeOf(0L)).isEqualTo(LocalDateTime.of(1970, 1, 1, 1, 0));
+        assertThat(epochMillisOf("2024-07-01T12:00", -1)).isEqualTo(Instant.parse("2024-07-01T10:00:00Z").toEpochMilli());
+        assertThat(zonedDateTimeOf(0L)).isEqualTo(Instant.EPOCH.atZone(ZoneId.of("Europe/Berlin")));
+
+        // TimeZone.setDefault needs a refresh as well
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Tokyo"));
+        assertThat(defaultZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+        assertThat(localDateTimeOf(0L)).isEqualTo(LocalDateTime.of(1970, 1, 1, 1, 0));
+        assertThat(refreshDefaultZone()).isEqualTo(ZoneId.of("Asia/Tokyo"));
+        assertThat(defaultRules()).isEqualTo(ZoneId.of("Asia/Tokyo").getRules());
+        assertThat(localDateTimeOf(0L)).isEqualTo(LocalDateTime.of(1970, 1, 1, 9, 0));
+        assertThat(defaultClock().getZone()).isEqualTo(ZoneId.of("Asia/Tokyo"));
+        TimeZone.setDefault(null);
+        assertThat(refreshDefaultZone()).isEqualTo(ZoneId.of("Europe/Berlin"));
+    }
+}
@@ -0,0 +1,144 @@
+package berlin.yuna.typemap.logic;
+
+import berlin.yuna.typemap.model.TypeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+
+import static berlin.yuna.typemap.config.TypeConversionRegister.conversionRegistry;
+import static berlin.yuna.typemap.logic.TemporalParser.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemporalParserTest {
+
+    @BeforeEach
+    void setUp() {
+        System.getProperties().setProperty("user.timezone", "UTC");
+        TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
+    }
+
+    @Test
+    void temporalTest() {
+        final Instant instant = temporalOf(Instant.class, "2024-01-15T10:30:15Z", Instant::from);
+        assertThat(instant).isEqualTo(Instant.parse("2024-01-15T10:30:15Z"));
+
+        // epoch seconds and milliseconds
+        final Instant epochSeconds = temporalOf(Instant.class, "1800000000", Instant::from);
+        final Instant epochMillis = temporalOf(Instant.class, "1800000000000", Instant::from);
+        assertThat(epochSeconds).isEqualTo(Instant.ofEpochSecond(1800000000L)).isEqualTo(epochMillis);
+
+        // whitespace and "at" between date and time
+        final LocalDateTime spaced = temporalOf(LocalDateTime.class, "2024-01-15 \t at  10:30", LocalDateTime::from);
+        assertThat(spaced).isEqualTo(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        // late formatters
+        final LocalDateTime amPm = temporalOf(LocalDateTime.class, "12/31/2024 11:59:59 PM", LocalDateTime::from);
+        final Instant zoneText = temporalOf(Instant.class, "31 Dec 2024 23:59 CET", Instant::from);
+        final LocalDate monthText = temporalOf(LocalDate.class, "4. September 2025", LocalDate::from);
+        assertThat(amPm).isEqualTo(LocalDateTime.of(2024, 12, 31, 23, 59, 59));
+        assertThat(zoneText).isEqualTo(Instant.parse("2024-12-31T22:59:00Z"));
+        assertThat(monthText).isEqualTo(LocalDate.of(2025, 9, 4));
+
+        // lenient formatters resolve what ISO rejects
+        final LocalDate clamped = temporalOf(LocalDate.class, "2024-02-30", LocalDate::from);
+        final LocalDateTime midnight = temporalOf(LocalDateTime.class, "2024-01-15T24:00", LocalDateTime::from);
+        assertThat(clamped).isEqualTo(LocalDate.of(2024, 2, 29));
+        assertThat(midnight).isEqualTo(LocalDateTime.of(2024, 1, 16, 0, 0));
+
+        final LocalTime time = temporalOf(LocalTime.class, "2024-01-15", LocalTime::from);
+        assertThat(time).isEqualTo(LocalTime.MIDNIGHT);
+        assertThat(temporalOf(Instant.class, "invalid", Instant::from)).isNull();
+        assertThat(temporalOf(Instant.class, "", Instant::from)).isNull();
+        assertThat(temporalOf(Instant.class, null, Instant::from)).isNull();
+    }
+
+    @Test
+    void learnedShapeTest() {
+        clearLearnedShapes();
+        assertThat(signatureOf("2024-01-15T10:30:00.123Z")).isEqualTo("dddd-dd-ddTdd:dd:dd.dddZ");
+
+        // only dd/MM/uuuu can read day 13, the learned start must not skip MM/dd/uuuu
+        final LocalDate dayFirst = temporalOf(LocalDate.class, "13/04/2025", LocalDate::from);
+        final LocalDate monthFirst = temporalOf(LocalDate.class, "09/04/2025", LocalDate::from);
+        assertThat(dayFirst).isEqualTo(LocalDate.of(2025, 4, 13));
+        assertThat(monthFirst).isEqualTo(LocalDate.of(2025, 9, 4));
+        assertThat(learnedMisses()).isEqualTo(1);
+        assertThat(learnedHits()).isEqualTo(1);
+        assertThat(learnedShapes()).isEqualTo(1);
+
+        final Instant first = temporalOf(Instant.class, "31 Dec 2024 23:59 CET", Instant::from);
+        final Instant second = temporalOf(Instant.class, "15 Dec 2024 10:30 CET", Instant::from);
+        assertThat(first).isEqualTo(Instant.parse("2024-12-31T22:59:00Z"));
+        assertThat(second).isEqualTo(Instant.parse("2024-12-15T09:30:00Z"));
+        assertThat(learnedHits()).isEqualTo(2);
+
+        // bounded, every upper/lower case variant of a month name is its own shape
+        final String month = "september";
+        for (int variant = 0; variant < 1 << month.length(); variant++) {
+            final StringBuilder name = new StringBuilder(month);
+            for (int i = 0; i < month.length(); i++) {
+                if ((variant & 1 << i) != 0) {
+                    name.setCharAt(i, Character.toUpperCase(month.charAt(i)));
+                }
+            }
+            final LocalDate parsed = temporalOf(LocalDate.class, "4 " + name + " 2025", LocalDate::from);
+            assertThat(parsed).isEqualTo(LocalDate.of(2025, 9, 4));
+            assertThat(learnedShapes()).isBetween(1, MAX_LEARNED_SHAPES);
+        }
+
+        clearLearnedShapes();
+        assertThat(learnedShapes()).isZero();
+        assertThat(learnedHits()).isZero();
+        assertThat(learnedMisses()).isZero();
+    }
+
+    @Test
+    void columnTest() {
+        // 09/04/2025 alone reads month first, the column decides for day first
+        final List<String> dayFirst = List.of("09/04/2025", "13/04/2025", "31/12/2024");
+        assertThat(formatOf(dayFirst, conversionRegistry())).isNotNull();
+        assertThat(instantsOf(dayFirst)).containsExactly(
+            Instant.parse("2025-04-09T00:00:00Z"),
+            Instant.parse("2025-04-13T00:00:00Z"),
+            Instant.parse("2024-12-31T00:00:00Z")
+        );
+
+        // foreign values fall back to the element wise conversion, positions are kept
+        final Object[] mixed = {"31 Dec 2024 23:59 CET", null, "2024-01-15T10:30:00Z", 0L, "invalid", "15 Dec 2024 10:30 CET"};
+        assertThat(instantsOf(mixed)).containsExactly(
+            Instant.parse("2024-12-31T22:59:00Z"),
+            null,
+            Instant.parse("2024-01-15T10:30:00Z"),
+            Instant.EPOCH,
+            null,
+            Instant.parse("2024-12-15T09:30:00Z")
+        );
+        assertThat(epochMillisOf(mixed, -1L)).containsExactly(1735685940000L, -1L, 1705314600000L, 0L, -1L, 1734255000000L);
+
+        // epoch numbers and ISO-8601 don't need a formatter
+        assertThat(formatOf(List.of("2024-01-15T10:30:00Z", "1800000000", "2024-01-15"), conversionRegistry())).isNull();
+        assertThat(formatOf(List.of("invalid"), conversionRegistry())).isNull();
+        assertThat(epochMillisOf(List.of("2024-01-15T10:30:00Z", "1800000000"), -1L)).containsExactly(1705314600000L, 1800000000000L);
+
+        // registry zone and large columns
+        final List<String> large = new ArrayList<>();
+        for (int i = 0; i < COLUMN_SAMPLE_SIZE * 10; i++) {
+            large.add(String.format("%02d.01.2024 10:00", i % 28 + 1));
+        }
+        final long[] tokyo = epochMillisOf(large, -1L, conversionRegistry().withZone(ZoneId.of("Asia/Tokyo")));
+        assertThat(tokyo).hasSize(large.size()).doesNotContain(-1L);
+        assertThat(tokyo[0]).isEqualTo(Instant.parse("2024-01-01T01:00:00Z").toEpochMilli());
+
+        final Instant[] empty = instantsOf(null);
+        final Instant[] events = new TypeMap().putR("events", dayFirst).asInstantArray("events");
+        final long[] eventMillis = new TypeMap().putR("events", dayFirst).asEpochMillisArray(-1L, "events");
+        assertThat(empty).isEmpty();
+        assertThat(events).hasSize(3).doesNotContainNull();
+        assertThat(eventMillis[1]).isEqualTo(events[1].toEpochMilli());
+    }
+}
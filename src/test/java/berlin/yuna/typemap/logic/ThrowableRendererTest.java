@@ -0,0 +1,108 @@
+package berlin.yuna.typemap.logic;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static berlin.yuna.typemap.config.TypeConversionRegister.IGNORED_TRACE_ELEMENTS;
+import static berlin.yuna.typemap.config.TypeConversionRegister.LINE_SEPARATOR;
+import static berlin.yuna.typemap.logic.ThrowableRenderer.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThrowableRendererTest {
+
+    private final List<String> ignored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ignored.addAll(IGNORED_TRACE_ELEMENTS);
+        IGNORED_TRACE_ELEMENTS.removeIf(prefix -> prefix.startsWith("berlin."));
+    }
+
+    @AfterEach
+    void tearDown() {
+        IGNORED_TRACE_ELEMENTS.clear();
+        IGNORED_TRACE_ELEMENTS.addAll(ignored);
+    }
+
+    @Test
+    void renderTest() throws IOException {
+        final RuntimeException value = new RuntimeException("AA", new IllegalStateException("BB"));
+        final String result = stringOf(value);
+        assertThat(result)
+            .startsWith("java.lang.RuntimeException: AA" + LINE_SEPARATOR + "\tat " + ThrowableRendererTest.class.getName() + ".renderTest(ThrowableRendererTest.java:")
+            .contains("Caused by: java.lang.IllegalStateException: BB" + LINE_SEPARATOR)
+            .doesNotContain("\tat org.junit.")
+            .endsWith(LINE_SEPARATOR);
+        assertThat(appendTo(new StringWriter(), value, MAX_FRAMES, MAX_CAUSES)).hasToString(result);
+        assertThat(stringOf(null)).isEmpty();
+
+        // frames of the class path are rendered like StackTraceElement.toString
+        for (final StackTraceElement frame : value.getStackTrace()) {
+            final String line = "\tat " + frame + LINE_SEPARATOR;
+            assertThat(result.contains(line)).isEqualTo(!isIgnored(frame.getClassName()));
+        }
+    }
+
+    @Test
+    void ignoredPrefixTest() {
+        assertThat(isIgnored("java.lang.String")).isTrue();
+        assertThat(isIgnored("jdk.internal.reflect.Method")).isTrue();
+        assertThat(isIgnored("javafx.Node")).isFalse();
+        assertThat(isIgnored("jav")).isFalse();
+        assertThat(isIgnored("berlin.yuna.Test")).isFalse();
+
+        // changes to the list are picked up
+        IGNORED_TRACE_ELEMENTS.add("berlin.yuna.");
+        assertThat(isIgnored("berlin.yuna.Test")).isTrue();
+
+        // all frames ignored keeps the first frames
+        final String result = stringOf(new RuntimeException("AA"));
+        assertThat(result.split(LINE_SEPARATOR)).hasSize(1 + FALLBACK_FRAMES);
+    }
+
+    @Test
+    void limitTest() {
+        final RuntimeException value = nested(10);
+        final String result = render(value, 1, MAX_CAUSES);
+        assertThat(result.split(LINE_SEPARATOR)).hasSize(3);
+        assertThat(result).contains("\t... ").endsWith(" more" + LINE_SEPARATOR);
+
+        Throwable chain = new RuntimeException("root");
+        for (int i = 0; i < 100; i++) {
+            chain = new RuntimeException("wrapper " + i, chain);
+        }
+        final String causes = render(chain, 0, 5);
+        assertThat(causes.split("Caused by: ", -1)).hasSize(6);
+        assertThat(causes).doesNotContain("root");
+    }
+
+    @Test
+    void circularCauseTest() {
+        final RuntimeException first = new RuntimeException("first");
+        final RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+
+        final String result = stringOf(first);
+        assertThat(result)
+            .contains("Caused by: java.lang.RuntimeException: second")
+            .endsWith("\t[CIRCULAR REFERENCE: java.lang.RuntimeException: first]" + LINE_SEPARATOR);
+    }
+
+    private static RuntimeException nested(final int depth) {
+        return depth == 0 ? new RuntimeException("AA") : nested(depth - 1);
+    }
+
+    private static String render(final Throwable throwable, final int maxFrames, final int maxCauses) {
+        try {
+            return ThrowableRenderer.appendTo(new StringBuilder(), throwable, maxFrames, maxCauses).toString();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package berlin.yuna.typemap.logic;
 
+import berlin.yuna.typemap.config.ConversionRegistry;
+import berlin.yuna.typemap.model.ConversionResult;
+import berlin.yuna.typemap.model.ConversionResult.Reason;
 import berlin.yuna.typemap.model.TestEnum;
 import berlin.yuna.typemap.model.UnknownClass;
 import berlin.yuna.typemap.model.UnknownNumber;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import static berlin.yuna.typemap.config.TypeConversionRegister.conversionRegistry;
+import static berlin.yuna.typemap.config.TypeConversionRegister.exactNumbers;
 import static berlin.yuna.typemap.logic.TypeConverter.*;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class TypeConverterTest {
 
@@ -19,6 +29,7 @@ class TypeConverterTest {
     void setUp() {
         System.getProperties().setProperty("user.timezone", "UTC");
         TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
     }
 
     @Test
@@ -43,6 +54,14 @@ class TypeConverterTest {
         assertThat(convertObj("ZZ", TestEnum.class)).isNull();
         assertThat(enumOf("BB", TestEnum.class)).isEqualTo(TestEnum.BB);
         assertThat(enumOf("ZZ", TestEnum.class)).isNull();
+        assertThat(enumOf("bb", TestEnum.class)).isNull();
+        assertThat(enumOf("bb", TestEnum.class, true)).isEqualTo(TestEnum.BB);
+        assertThat(enumOf("zz", TestEnum.class, true)).isNull();
+        assertThat(enumOf(2, TestEnum.class)).isEqualTo(TestEnum.CC);
+        assertThat(enumOf(3L, TestEnum.class)).isNull();
+        assertThat(enumOf(-1, TestEnum.class)).isNull();
+        assertThat(enumOf(null, TestEnum.class)).isNull();
+        assertThat(enumOf("BB", (Class<TestEnum>) null)).isNull();
     }
 
     @Test
@@ -64,6 +83,33 @@ class TypeConverterTest {
         assertThat(convertObj("AA", UnknownClass.class)).isNull();
     }
 
+    @Test
+    void convertPrimitiveTest() {
+        assertThat(toInt("123", -1)).isEqualTo(123);
+        assertThat(toInt(new StringBuilder("-42"), -1)).isEqualTo(-42);
+        assertThat(toInt(12.9d, -1)).isEqualTo(12);
+        assertThat(toInt("2147483648", -1)).isEqualTo(-1);
+        assertThat(toInt("1.5", -1)).isEqualTo(-1);
+        assertThat(toInt(null, -1)).isEqualTo(-1);
+        assertThat(toInt(asList("7", "8"), -1)).isEqualTo(7);
+        assertThat(toLong("-9223372036854775808", 0)).isEqualTo(Long.MIN_VALUE);
+        assertThat(toLong("9223372036854775808", 0)).isZero();
+        assertThat(toLong("+", 0)).isZero();
+        assertThat(toLong(new UnknownClass(), 0)).isZero();
+        assertThat(toLong(new UnknownNumber(), 0)).isEqualTo(123L);
+        assertThat(toDouble("1.25e2", 0)).isEqualTo(125d);
+        assertThat(toDouble("-0.1", 0)).isEqualTo(-0.1d);
+        assertThat(toDouble("0.30000000000000004", 0)).isEqualTo(0.30000000000000004d);
+        assertThat(toDouble("1e400", 0)).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(toDouble("NaN", 0)).isNaN();
+        assertThat(toDouble("1,5", -1)).isEqualTo(-1d);
+        assertThat(toBoolean("TRUE", false)).isTrue();
+        assertThat(toBoolean("1", false)).isTrue();
+        assertThat(toBoolean("no", true)).isFalse();
+        assertThat(toBoolean(1, false)).isTrue();
+        assertThat(toBoolean(null, true)).isTrue();
+    }
+
     @Test
     void convertMapTest() {
         final Map<String, String> input = new HashMap<>();
@@ -114,6 +160,80 @@ class TypeConverterTest {
         assertThat(arrayOf("123", Integer[]::new, Integer.class)).containsExactly(123);
     }
 
+    @Test
+    void convertAllTest() {
+        assertThat(convertAll(new Object[]{"1", "2", null, "x", 3, 4L, TestEnum.BB}, Long.class)).containsExactly(1L, 2L, null, null, 3L, 4L, null);
+        assertThat(convertAll(asList("BB", 0, asList("CC")), TestEnum.class)).containsExactly(TestEnum.BB, TestEnum.AA, TestEnum.CC);
+        assertThat(convertAll(asList("a", new StringBuilder("b")), CharSequence.class)).hasSize(2);
+        assertThat(convertAll((List<?>) null, Long.class)).isEmpty();
+        assertThat(convertAll(new Object[0], null)).isEmpty();
+        assertThat(longArrayOf(asList("1", 2, null, "x"), -1)).containsExactly(1L, 2L, -1L, -1L);
+        assertThat(longArrayOf(new int[]{1, 2}, -1)).containsExactly(1L, 2L);
+        assertThat(doubleArrayOf(new String[]{"1.5", "2"}, -1)).containsExactly(1.5d, 2d);
+        assertThat(doubleArrayOf(Set.of("3.5"), -1)).containsExactly(3.5d);
+        assertThat(intArrayOf("7", -1)).containsExactly(7);
+        assertThat(intArrayOf(null, -1)).isEmpty();
+        assertThat(longArrayOf(asList(new Date(5L), new Date(6L), Instant.ofEpochMilli(7L), new UnknownClass()), -1)).containsExactly(5L, 6L, 7L, -1L);
+    }
+
+    @Test
+    void convertParallelTest() {
+        final List<Object> input = new ArrayList<>();
+        final List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            input.add(i % 10 == 0 ? "invalid" : String.valueOf(i));
+            if (i % 10 != 0) {
+                expected.add((long) i);
+            }
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<Long> fromList = collectionOfParallel(input, ArrayList::new, Long.class, pool, 100);
+            final List<Long> fromArray = collectionOfParallel(input.toArray(), ArrayList::new, Long.class, pool, 100);
+            assertThat(fromList).isEqualTo(expected);
+            assertThat(fromArray).isEqualTo(expected);
+            assertThat(arrayOfParallel(input, Long[]::new, Long.class, pool, 100)).containsExactlyElementsOf(expected);
+        } finally {
+            pool.shutdown();
+        }
+        final List<Long> commonPool = collectionOfParallel(input, ArrayList::new, Long.class);
+        final List<Integer> single = collectionOfParallel("123", ArrayList::new, Integer.class);
+        assertThat(commonPool).isEqualTo(expected);
+        assertThat(single).containsExactly(123);
+        assertThat(collectionOfParallel(input, (Supplier<List<Long>>) null, Long.class)).isNull();
+        assertThat(arrayOfParallel(new int[]{1, 2}, String[]::new, String.class)).containsExactly("1", "2");
+    }
+
+    @Test
+    void arrayAccessTest() {
+        assertThat(arrayLength(new int[]{1, 2, 3})).isEqualTo(3);
+        assertThat(arrayLength(new String[0])).isZero();
+        assertThat(arrayLength("no array")).isEqualTo(-1);
+        assertThat(arrayGet(new long[]{4, 5}, 1)).isEqualTo(5L);
+        assertThat(arrayGet(new char[]{'a'}, 0)).isEqualTo('a');
+        assertThat(arrayGet(new short[]{6}, 0)).isEqualTo((short) 6);
+        assertThat(arrayGet(new boolean[]{true}, 1)).isNull();
+        assertThat(arrayGet(new Object[]{"x"}, -1)).isNull();
+        assertThat(arrayGet(null, 0)).isNull();
+        assertThat(getFirstItem(new double[]{1.5, 2.5})).isEqualTo(1.5d);
+        assertThat(getFirstItem(new byte[0])).isNull();
+    }
+
+    @Test
+    void primitiveArrayConvertTest() {
+        assertThat(convertObj(new int[]{1, 2}, long[].class)).containsExactly(1L, 2L);
+        assertThat(convertObj(new double[]{1.9, -2.9, 1e10}, int[].class)).containsExactly(1, -2, Integer.MAX_VALUE);
+        assertThat(convertObj(new double[]{1.5}, float[].class)).containsExactly(1.5f);
+        assertThat(convertObj(new long[]{300}, byte[].class)).containsExactly((byte) 44);
+        assertThat(convertObj(new byte[]{-1}, short[].class)).containsExactly((short) -1);
+        assertThat(convertObj(new float[]{2.5f}, double[].class)).containsExactly(2.5d);
+        assertThat(convertObj(new int[]{7}, Long.class)).isEqualTo(7L);
+        assertThat(primitiveArrayOf(new int[]{1}, int[].class)).containsExactly(1);
+        assertThat(primitiveArrayOf(new char[]{'a'}, int[].class)).isNull();
+        assertThat(primitiveArrayOf(new int[]{1}, String[].class)).isNull();
+        assertThat(longArrayOf(new double[]{1.5, 2.5}, -1)).containsExactly(1L, 2L);
+    }
+
     @Test
     void iterateOverArrayTest() {
         final AtomicReference<Object> item = new AtomicReference<>();
@@ -147,4 +267,48 @@ class TypeConverterTest {
         iterateOverArray(new short[]{'A', 'B'}, item::set);
         assertThat(item.get()).isEqualTo((short) 'B');
     }
+
+    @Test
+    void tryConvertTest() {
+        final ConversionResult<Integer> success = tryConvert("123", Integer.class);
+        assertThat(success.isSuccess()).isTrue();
+        assertThat(success.value()).isEqualTo(123);
+        assertThat(success.reason()).isNull();
+        assertThat(success.map(value -> value * 2).orElseThrow()).isEqualTo(246);
+        assertThat(tryConvert(asList("7", "8"), Integer.class).value()).isEqualTo(7);
+        assertThat(tryConvert("BB", TestEnum.class).value()).isEqualTo(TestEnum.BB);
+
+        assertThat(tryConvert(null, Integer.class).reason()).isEqualTo(Reason.NULL_VALUE);
+        assertThat(tryConvert("abc", Integer.class).reason()).isEqualTo(Reason.PARSE_FAILURE);
+        assertThat(tryConvert("2147483648", Integer.class).reason()).isEqualTo(Reason.OVERFLOW);
+        assertThat(tryConvert("AA", UnknownClass.class).reason()).isEqualTo(Reason.NO_CONVERTER);
+        assertThat(tryConvert(Long.MAX_VALUE, Integer.class, exactNumbers(conversionRegistry())).reason()).isEqualTo(Reason.OVERFLOW);
+        assertThat(tryConvert("1.5", Integer.class).reason()).isEqualTo(Reason.FRACTION);
+        assertThat(tryConvert("15e-1", Long.class).reason()).isEqualTo(Reason.FRACTION);
+        assertThat(tryConvert("1.5e400", Integer.class).reason()).isEqualTo(Reason.OVERFLOW);
+        assertThat(tryConvert(1.5d, Integer.class, exactNumbers(conversionRegistry())).reason()).isEqualTo(Reason.FRACTION);
+        assertThat(tryConvert(new BigDecimal("1.50"), Long.class, exactNumbers(conversionRegistry())).reason()).isEqualTo(Reason.FRACTION);
+        assertThat(tryConvert(new BigDecimal("1e30"), Long.class, exactNumbers(conversionRegistry())).reason()).isEqualTo(Reason.OVERFLOW);
+
+        // exceptions of converters are classified
+        final ConversionRegistry throwing = conversionRegistry()
+            .with(String.class, Long.class, source -> Math.multiplyExact(Long.parseLong(source), 10L))
+            .with(String.class, UnknownClass.class, source -> {
+                throw new IllegalStateException(source);
+            });
+        assertThat(tryConvert("1", Long.class, throwing).value()).isEqualTo(10L);
+        assertThat(tryConvert(String.valueOf(Long.MAX_VALUE), Long.class, throwing).reason()).isEqualTo(Reason.OVERFLOW);
+        assertThat(tryConvert("AA", UnknownClass.class, throwing).reason()).isEqualTo(Reason.PARSE_FAILURE);
+
+        // failures are shared and stackless
+        final ConversionResult<Integer> failure = tryConvert("abc", Integer.class);
+        assertThat(tryConvert("xyz", Integer.class)).isSameAs(failure);
+        assertThat(failure.orElse(-1)).isEqualTo(-1);
+        assertThat(failure.orElseGet(() -> -2)).isEqualTo(-2);
+        assertThat(failure.map(value -> value * 2).reason()).isEqualTo(Reason.PARSE_FAILURE);
+        assertThatThrownBy(failure::orElseThrow)
+            .isInstanceOf(ConversionResult.Failure.class)
+            .isSameAs(ConversionResult.Failure.of(Reason.PARSE_FAILURE))
+            .satisfies(error -> assertThat(error.getStackTrace()).isEmpty());
+    }
 }
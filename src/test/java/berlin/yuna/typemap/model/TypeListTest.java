@@ -3,6 +3,7 @@ package berlin.yuna.typemap.model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import berlin.yuna.typemap.logic.JsonDecoder;
+import berlin.yuna.typemap.logic.TemporalCodec;
 import berlin.yuna.typemap.logic.XmlDecoder;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -36,6 +37,7 @@ class TypeListTest {
     void setUp() {
         System.getProperties().setProperty("user.timezone", "UTC");
         TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
     }
 
     static Stream<Arguments> typeMapProvider() {
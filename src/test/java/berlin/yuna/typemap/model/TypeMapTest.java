@@ -3,6 +3,7 @@ package berlin.yuna.typemap.model;
 
 import berlin.yuna.typemap.config.TypeConversionRegister;
 import berlin.yuna.typemap.logic.JsonDecoder;
+import berlin.yuna.typemap.logic.TemporalCodec;
 import berlin.yuna.typemap.logic.XmlDecoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,7 @@ public class TypeMapTest {
     void setUp() {
         System.getProperties().setProperty("user.timezone", "UTC");
         TimeZone.setDefault(null);
+        TemporalCodec.refreshDefaultZone();
     }
 
     static Stream<Arguments> typeMapProvider() {
@@ -270,6 +272,41 @@ public class TypeMapTest {
         assertThat(typeMap.asOpt(UnknownClass.class, "AA", "DD", anObject).value()).isNull();
     }
 
+    @Test
+    void primitiveAccessorTest() {
+        final TypeMap map = new TypeMap().putR("outer", new TypeMap().putR("int", "42").putR("long", 9L).putR("double", "2.5").putR("bool", "true"));
+
+        assertThat(map.asIntPrimitive(-1, "outer", "int")).isEqualTo(42);
+        assertThat(map.asLongPrimitive(-1, "outer", "long")).isEqualTo(9L);
+        assertThat(map.asDoublePrimitive(-1, "outer", "double")).isEqualTo(2.5d);
+        assertThat(map.asBooleanPrimitive(false, "outer", "bool")).isTrue();
+        assertThat(map.asIntPrimitive(-1, "outer", "double")).isEqualTo(-1);
+        assertThat(map.asLongPrimitive(-1, "outer", "missing")).isEqualTo(-1L);
+        assertThat(new TypeList().addR("7").asIntPrimitive(-1, 0)).isEqualTo(7);
+    }
+
+    @Test
+    void treeGetArrayTest() {
+        final TypeMap map = new TypeMap().putR("array", new Object[]{Map.of("key", "value"), "BB"}).putR("ints", new int[]{1, 2, 3});
+
+        assertThat(map.asString("array", 0, "key")).isEqualTo("value");
+        assertThat(map.asString("array", "BB")).isEqualTo("BB");
+        assertThat(map.asString("array", 5)).isNull();
+        assertThat(map.asInt("ints", 2)).isEqualTo(3);
+        assertThat(map.asInt("ints", 3)).isNull();
+        assertThat(map.asIntPrimitive(-1, "ints", 1, "nested")).isEqualTo(-1);
+    }
+
+    @Test
+    void asListParallelTest() {
+        final TypeMap map = new TypeMap().putR("list", List.of("1", "x", 3)).putR("array", new String[]{"4", "5"});
+
+        assertThat(map.asListParallel(Integer.class, "list")).containsExactly(1, 3);
+        final Set<Long> fromArray = map.asListParallel(LinkedHashSet::new, Long.class, "array");
+        assertThat(fromArray).containsExactly(4L, 5L);
+        assertThat(map.asListParallel(Integer.class, "missing")).isEmpty();
+    }
+
     @Test
     void testDefaultMapMethods() {
         final String myTime = new Date(TEST_TIME).toString();